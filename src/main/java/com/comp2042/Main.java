@@ -1,5 +1,6 @@
 package com.comp2042;
 
+import controller.gui.GuiController;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
@@ -27,6 +28,11 @@ public class Main extends Application {
      */
     @Override
     public void start(Stage primaryStage) throws Exception {
+        // --renderer=canvas selects the canvas board renderer, read when the controller initializes
+        String renderer = getParameters().getNamed().get("renderer");
+        if (renderer != null) {
+            System.setProperty(GuiController.RENDERER_PROPERTY, renderer);
+        }
 
         URL location = getClass().getClassLoader().getResource("gameLayout.fxml");
         ResourceBundle resources = null;
@@ -45,7 +51,7 @@ public class Main extends Application {
     /**
      * Main method to launch the JavaFX application.
      * 
-     * @param args command line arguments (not used)
+     * @param args command line arguments; {@code --renderer=canvas} selects the canvas renderer
      */
     public static void main(String[] args) {
         launch(args);
@@ -5,4 +5,25 @@ import java.util.List;
 public interface Brick {
 
     List<int[][]> getShapeMatrix();
+
+    /**
+     * Gets the read-only rotation table of this brick. The built-in bricks return a
+     * shared, precomputed table; the default builds one from {@link #getShapeMatrix()},
+     * so callers should fetch it once per piece rather than once per move.
+     *
+     * @return an unmodifiable list with one shape per rotation
+     */
+    default List<BrickShape> getShapes() {
+        return BrickShape.rotations(getShapeMatrix().toArray(new int[0][][]));
+    }
+
+    /**
+     * Gets a small numeric id of the brick type, used to pack piece state into primitives.
+     * The built-in tetrominoes use 1 to 7, matching their cell color; other bricks return 0.
+     *
+     * @return the type id, from 0 to 255
+     */
+    default int getTypeId() {
+        return 0;
+    }
 }
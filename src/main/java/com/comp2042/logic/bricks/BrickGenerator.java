@@ -5,4 +5,39 @@ public interface BrickGenerator {
     Brick getBrick();
 
     Brick getNextBrick();
+
+    /**
+     * Gets how many upcoming bricks can be previewed through {@link #getPreviewBrick(int)}.
+     *
+     * @return the preview depth, at least 1
+     */
+    default int getPreviewSize() {
+        return 1;
+    }
+
+    /**
+     * Gets an upcoming brick without consuming it. Index 0 is the brick the next call to
+     * {@link #getBrick()} returns, so it equals {@link #getNextBrick()}.
+     *
+     * @param index the position in the preview queue, from 0 to {@link #getPreviewSize()} - 1
+     * @return the upcoming brick at that position
+     */
+    default Brick getPreviewBrick(int index) {
+        if (index != 0) {
+            throw new IndexOutOfBoundsException("Preview index " + index + " out of range for depth 1");
+        }
+        return getNextBrick();
+    }
+
+    /**
+     * Returns a generator that continues this sequence from the current point without
+     * affecting this one, so board snapshots can rewind the upcoming bricks. The default
+     * returns this generator itself: snapshots then share it, and restoring one keeps
+     * dealing new bricks instead of replaying the old ones.
+     *
+     * @return an independent copy, or this generator if it cannot be copied
+     */
+    default BrickGenerator copy() {
+        return this;
+    }
 }
@@ -0,0 +1,196 @@
+package com.comp2042.logic.bricks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Immutable, precomputed description of one rotation of a brick.
+ * Besides the cell matrix it stores the filled cells as offset lists, the bounding box,
+ * one occupancy bitmask per row and the per-column bottom profile ("skirt"). Instances
+ * are shared between boards, rotators and view data, so reading a shape never copies it.
+ *
+ * @author COMP2042 Coursework
+ */
+public final class BrickShape {
+
+    private final int[][] matrix;
+    private final int rows;
+    private final int columns;
+    private final int[] cellRows;
+    private final int[] cellColumns;
+    private final int[] cellColors;
+    private final int[] rowMasks;
+    private final int[] skirt;
+    private final int minRow;
+    private final int maxRow;
+    private final int minColumn;
+    private final int maxColumn;
+
+    /**
+     * Builds a shape from a cell matrix indexed as [row][column]. The matrix is copied,
+     * so later changes to the argument do not affect the shape.
+     *
+     * @param matrix the cell values of the rotation, 0 meaning empty
+     */
+    public BrickShape(int[][] matrix) {
+        this.rows = matrix.length;
+        this.columns = rows > 0 ? matrix[0].length : 0;
+        this.matrix = new int[rows][columns];
+        this.rowMasks = new int[rows];
+        this.skirt = new int[columns];
+        Arrays.fill(skirt, -1);
+
+        int count = 0;
+        for (int r = 0; r < rows; r++) {
+            System.arraycopy(matrix[r], 0, this.matrix[r], 0, columns);
+            for (int c = 0; c < columns; c++) {
+                if (matrix[r][c] != 0) {
+                    count++;
+                }
+            }
+        }
+
+        cellRows = new int[count];
+        cellColumns = new int[count];
+        cellColors = new int[count];
+        int top = rows, bottom = -1, left = columns, right = -1;
+        int index = 0;
+        // Cells are listed in row-major order, so cell 0 is the first filled cell
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                int value = this.matrix[r][c];
+                if (value == 0) {
+                    continue;
+                }
+                cellRows[index] = r;
+                cellColumns[index] = c;
+                cellColors[index] = value;
+                index++;
+                rowMasks[r] |= 1 << c;
+                skirt[c] = r;
+                top = Math.min(top, r);
+                bottom = Math.max(bottom, r);
+                left = Math.min(left, c);
+                right = Math.max(right, c);
+            }
+        }
+        minRow = count > 0 ? top : 0;
+        maxRow = count > 0 ? bottom : -1;
+        minColumn = count > 0 ? left : 0;
+        maxColumn = count > 0 ? right : -1;
+    }
+
+    /**
+     * Builds an unmodifiable rotation table from cell matrices.
+     *
+     * @param matrices the rotations in order
+     * @return an unmodifiable list with one shape per rotation
+     */
+    public static List<BrickShape> rotations(int[][]... matrices) {
+        List<BrickShape> shapes = new ArrayList<>(matrices.length);
+        for (int[][] matrix : matrices) {
+            shapes.add(new BrickShape(matrix));
+        }
+        return List.copyOf(shapes);
+    }
+
+    /**
+     * Copies a rotation table back into mutable matrices, for callers of the
+     * legacy {@link Brick#getShapeMatrix()} API.
+     *
+     * @param shapes the rotation table
+     * @return a new list holding a fresh matrix per rotation
+     */
+    public static List<int[][]> toMatrices(List<BrickShape> shapes) {
+        List<int[][]> matrices = new ArrayList<>(shapes.size());
+        for (BrickShape shape : shapes) {
+            matrices.add(shape.toMatrix());
+        }
+        return matrices;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the value of a cell of the shape matrix.
+     *
+     * @param row the row inside the shape
+     * @param column the column inside the shape
+     * @return the cell value, 0 when empty
+     */
+    public int getCell(int row, int column) {
+        return matrix[row][column];
+    }
+
+    public int getCellCount() {
+        return cellRows.length;
+    }
+
+    public int getCellRow(int index) {
+        return cellRows[index];
+    }
+
+    public int getCellColumn(int index) {
+        return cellColumns[index];
+    }
+
+    public int getCellColor(int index) {
+        return cellColors[index];
+    }
+
+    /**
+     * Gets the occupancy of one row as a bitmask where bit c is set when column c is filled.
+     *
+     * @param row the row inside the shape
+     * @return the row bitmask
+     */
+    public int getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    /**
+     * Gets the bottom profile of a column: the lowest filled row in that column.
+     *
+     * @param column the column inside the shape
+     * @return the lowest filled row, or -1 when the column is empty
+     */
+    public int getSkirt(int column) {
+        return skirt[column];
+    }
+
+    public int getMinRow() {
+        return minRow;
+    }
+
+    public int getMaxRow() {
+        return maxRow;
+    }
+
+    public int getMinColumn() {
+        return minColumn;
+    }
+
+    public int getMaxColumn() {
+        return maxColumn;
+    }
+
+    /**
+     * Gets a mutable copy of the shape matrix.
+     *
+     * @return a new matrix indexed as [row][column]
+     */
+    public int[][] toMatrix() {
+        int[][] copy = new int[rows][];
+        for (int r = 0; r < rows; r++) {
+            copy[r] = matrix[r].clone();
+        }
+        return copy;
+    }
+}
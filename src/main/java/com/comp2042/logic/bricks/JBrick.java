@@ -1,43 +1,48 @@
 package com.comp2042.logic.bricks;
 
-import model.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 final class JBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
+    private static final List<BrickShape> SHAPES = BrickShape.rotations(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {2, 2, 2, 0},
+                    {0, 0, 2, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 2, 2, 0},
+                    {0, 2, 0, 0},
+                    {0, 2, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {2, 0, 0, 0},
+                    {2, 2, 2, 0},
+                    {0, 0, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 2, 0, 0},
+                    {0, 2, 0, 0},
+                    {2, 2, 0, 0},
+                    {0, 0, 0, 0}
+            }
+    );
 
-    public JBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {2, 2, 2, 0},
-                {0, 0, 2, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 2, 2, 0},
-                {0, 2, 0, 0},
-                {0, 2, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 2, 0, 0},
-                {0, 2, 2, 2},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {0, 0, 2, 0},
-                {0, 0, 2, 0},
-                {0, 2, 2, 0},
-                {0, 0, 0, 0}
-        });
+    @Override
+    public List<int[][]> getShapeMatrix() {
+        return BrickShape.toMatrices(SHAPES);
     }
 
     @Override
-    public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+    public List<BrickShape> getShapes() {
+        return SHAPES;
+    }
+
+    @Override
+    public int getTypeId() {
+        return 2;
     }
 }
@@ -12,7 +12,22 @@ public class RandomBrickGenerator implements BrickGenerator {
 
     private final Deque<Brick> nextBricks = new ArrayDeque<>();
 
+    private final int previewSize;
+
     public RandomBrickGenerator() {
+        this(1);
+    }
+
+    /**
+     * Constructs a generator that keeps the given number of upcoming bricks previewable.
+     *
+     * @param previewSize how many upcoming bricks to keep visible, at least 1
+     */
+    public RandomBrickGenerator(int previewSize) {
+        if (previewSize < 1) {
+            throw new IllegalArgumentException("Preview size must be at least 1, got " + previewSize);
+        }
+        this.previewSize = previewSize;
         brickList = new ArrayList<>();
         brickList.add(new IBrick());
         brickList.add(new JBrick());
@@ -21,20 +36,59 @@ public class RandomBrickGenerator implements BrickGenerator {
         brickList.add(new SBrick());
         brickList.add(new TBrick());
         brickList.add(new ZBrick());
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
-        nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
+        fillPreview();
+    }
+
+    private RandomBrickGenerator(RandomBrickGenerator source) {
+        brickList = source.brickList;
+        previewSize = source.previewSize;
+        nextBricks.addAll(source.nextBricks);
+    }
+
+    /**
+     * Returns a generator with the same queued bricks. Bricks drawn after those are random,
+     * so the copy only agrees with this generator on the bricks already queued.
+     */
+    @Override
+    public RandomBrickGenerator copy() {
+        return new RandomBrickGenerator(this);
     }
 
     @Override
     public Brick getBrick() {
-        if (nextBricks.size() <= 1) {
+        fillPreview();
+        return nextBricks.poll();
+    }
+
+    // Keeps one brick beyond the preview so the queue is still full after the next poll
+    private void fillPreview() {
+        while (nextBricks.size() <= previewSize) {
             nextBricks.add(brickList.get(ThreadLocalRandom.current().nextInt(brickList.size())));
         }
-        return nextBricks.poll();
     }
 
     @Override
     public Brick getNextBrick() {
         return nextBricks.peek();
     }
+
+    @Override
+    public int getPreviewSize() {
+        return previewSize;
+    }
+
+    @Override
+    public Brick getPreviewBrick(int index) {
+        if (index < 0 || index >= previewSize) {
+            throw new IndexOutOfBoundsException("Preview index " + index + " out of range for depth " + previewSize);
+        }
+        // The queue holds at most a handful of bricks, so walking it is cheap
+        int i = 0;
+        for (Brick brick : nextBricks) {
+            if (i++ == index) {
+                return brick;
+            }
+        }
+        throw new IllegalStateException("Preview queue holds fewer than " + previewSize + " bricks");
+    }
 }
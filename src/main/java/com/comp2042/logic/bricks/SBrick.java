@@ -1,31 +1,48 @@
 package com.comp2042.logic.bricks;
 
-import model.MatrixOperations;
-
-import java.util.ArrayList;
 import java.util.List;
 
 final class SBrick implements Brick {
 
-    private final List<int[][]> brickMatrix = new ArrayList<>();
+    private static final List<BrickShape> SHAPES = BrickShape.rotations(
+            new int[][]{
+                    {0, 0, 0, 0},
+                    {0, 5, 5, 0},
+                    {5, 5, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 5, 0, 0},
+                    {0, 5, 5, 0},
+                    {0, 0, 5, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {0, 5, 5, 0},
+                    {5, 5, 0, 0},
+                    {0, 0, 0, 0},
+                    {0, 0, 0, 0}
+            },
+            new int[][]{
+                    {5, 0, 0, 0},
+                    {5, 5, 0, 0},
+                    {0, 5, 0, 0},
+                    {0, 0, 0, 0}
+            }
+    );
 
-    public SBrick() {
-        brickMatrix.add(new int[][]{
-                {0, 0, 0, 0},
-                {0, 5, 5, 0},
-                {5, 5, 0, 0},
-                {0, 0, 0, 0}
-        });
-        brickMatrix.add(new int[][]{
-                {5, 0, 0, 0},
-                {5, 5, 0, 0},
-                {0, 5, 0, 0},
-                {0, 0, 0, 0}
-        });
+    @Override
+    public List<int[][]> getShapeMatrix() {
+        return BrickShape.toMatrices(SHAPES);
     }
 
     @Override
-    public List<int[][]> getShapeMatrix() {
-        return MatrixOperations.deepCopyList(brickMatrix);
+    public List<BrickShape> getShapes() {
+        return SHAPES;
+    }
+
+    @Override
+    public int getTypeId() {
+        return 5;
     }
 }
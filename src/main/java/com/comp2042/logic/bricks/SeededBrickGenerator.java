@@ -0,0 +1,203 @@
+package com.comp2042.logic.bricks;
+
+import java.util.AbstractList;
+import java.util.List;
+
+/**
+ * Deterministic brick generator driven by a seeded SplitMix64 stream, the same stream
+ * {@link java.util.SplittableRandom} produces for that seed.
+ * Supports the 7-bag randomizer (every run of seven bricks is a shuffled set of all
+ * seven tetrominoes) and uniform draws like {@link RandomBrickGenerator}. The same seed
+ * and mode always yield the same sequence, on any thread and in any run, which makes
+ * games replayable and benchmark runs comparable. Upcoming bricks are kept in a
+ * fixed-size preview queue whose depth is chosen by the caller. The whole state is a few
+ * primitives and small arrays, so {@link #copy()} is cheap enough to take on every move.
+ *
+ * @author COMP2042 Coursework
+ */
+public class SeededBrickGenerator implements BrickGenerator {
+
+    /**
+     * How the next brick type is drawn.
+     */
+    public enum Mode {
+        /** Shuffled bags of all seven bricks. */
+        SEVEN_BAG,
+        /** Each brick drawn independently with equal probability. */
+        UNIFORM
+    }
+
+    // Bricks are stateless and their rotation tables are shared, so one instance per type is enough
+    private static final Brick[] BRICKS = {
+            new IBrick(), new JBrick(), new LBrick(), new OBrick(), new SBrick(), new TBrick(), new ZBrick()
+    };
+
+    private final long seed;
+    private final Mode mode;
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    // SplitMix64 state, kept inline rather than in a SplittableRandom so it can be copied
+    private long randomState;
+    private final int[] bag = new int[BRICKS.length];
+    private int bagIndex = BRICKS.length;
+
+    // Ring buffer holding the preview queue; head is the brick returned next
+    private final Brick[] preview;
+    private int head = 0;
+    private final List<Brick> previewView = new PreviewList();
+
+    /**
+     * Constructs a 7-bag generator with a single-piece preview.
+     *
+     * @param seed the seed of the sequence
+     */
+    public SeededBrickGenerator(long seed) {
+        this(seed, Mode.SEVEN_BAG, 1);
+    }
+
+    /**
+     * Constructs a generator with the given randomizer and preview depth.
+     *
+     * @param seed the seed of the sequence
+     * @param mode the randomizer to use
+     * @param previewSize how many upcoming bricks to keep visible, at least 1
+     */
+    public SeededBrickGenerator(long seed, Mode mode, int previewSize) {
+        if (previewSize < 1) {
+            throw new IllegalArgumentException("Preview size must be at least 1, got " + previewSize);
+        }
+        this.seed = seed;
+        this.mode = mode;
+        this.randomState = seed;
+        this.preview = new Brick[previewSize];
+        for (int i = 0; i < previewSize; i++) {
+            preview[i] = draw();
+        }
+    }
+
+    private SeededBrickGenerator(SeededBrickGenerator source) {
+        this.seed = source.seed;
+        this.mode = source.mode;
+        this.randomState = source.randomState;
+        System.arraycopy(source.bag, 0, bag, 0, bag.length);
+        this.bagIndex = source.bagIndex;
+        this.preview = source.preview.clone();
+        this.head = source.head;
+    }
+
+    /**
+     * Returns a generator at the same point of the same sequence. The two advance
+     * independently afterwards and deal identical bricks.
+     *
+     * @return an independent copy of this generator
+     */
+    @Override
+    public SeededBrickGenerator copy() {
+        return new SeededBrickGenerator(this);
+    }
+
+    /**
+     * Draws the next 32 bits, matching {@link java.util.SplittableRandom#nextInt()}.
+     */
+    private int nextInt() {
+        long z = randomState += GOLDEN_GAMMA;
+        z = (z ^ (z >>> 33)) * 0x62a9d9ed799705f5L;
+        return (int) (((z ^ (z >>> 28)) * 0xcb24d0a5c88c35b3L) >>> 32);
+    }
+
+    /**
+     * Draws an int in [0, bound), matching {@link java.util.SplittableRandom#nextInt(int)}.
+     */
+    private int nextInt(int bound) {
+        int r = nextInt();
+        int m = bound - 1;
+        if ((bound & m) == 0) {
+            return r & m;
+        }
+        // Reject draws from the incomplete last block so every value is equally likely
+        for (int u = r >>> 1; u + m - (r = u % bound) < 0; u = nextInt() >>> 1) {
+        }
+        return r;
+    }
+
+    private Brick draw() {
+        if (mode == Mode.UNIFORM) {
+            return BRICKS[nextInt(BRICKS.length)];
+        }
+        if (bagIndex == bag.length) {
+            refillBag();
+        }
+        return BRICKS[bag[bagIndex++]];
+    }
+
+    private void refillBag() {
+        for (int i = 0; i < bag.length; i++) {
+            bag[i] = i;
+        }
+        // Fisher-Yates shuffle
+        for (int i = bag.length - 1; i > 0; i--) {
+            int j = nextInt(i + 1);
+            int tmp = bag[i];
+            bag[i] = bag[j];
+            bag[j] = tmp;
+        }
+        bagIndex = 0;
+    }
+
+    @Override
+    public Brick getBrick() {
+        Brick brick = preview[head];
+        preview[head] = draw();
+        head = (head + 1) % preview.length;
+        return brick;
+    }
+
+    @Override
+    public Brick getNextBrick() {
+        return preview[head];
+    }
+
+    @Override
+    public int getPreviewSize() {
+        return preview.length;
+    }
+
+    @Override
+    public Brick getPreviewBrick(int index) {
+        if (index < 0 || index >= preview.length) {
+            throw new IndexOutOfBoundsException("Preview index " + index + " out of range for depth " + preview.length);
+        }
+        return preview[(head + index) % preview.length];
+    }
+
+    /**
+     * Gets a read-only live view of the preview queue, next brick first. The view is not
+     * a copy: it reflects later calls to {@link #getBrick()}.
+     *
+     * @return the upcoming bricks in order
+     */
+    public List<Brick> getPreview() {
+        return previewView;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    private final class PreviewList extends AbstractList<Brick> {
+
+        @Override
+        public Brick get(int index) {
+            return getPreviewBrick(index);
+        }
+
+        @Override
+        public int size() {
+            return preview.length;
+        }
+    }
+}
@@ -1,7 +1,7 @@
 /**
  * Package containing brick/tetromino logic and generation.
  * Includes brick shapes (I, J, L, O, S, T, Z), brick generator interface,
- * and random brick generation implementation.
+ * and random brick generation implementations (uniform and seeded 7-bag).
  * 
  * @author COMP2042 Coursework
  */
@@ -0,0 +1,582 @@
+package controller.bot;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
+import model.BoardFeatures;
+import model.BoardSnapshot;
+import model.PieceState;
+import model.PlacementEnumerator;
+import model.ZobristKeys;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+
+/**
+ * Plans the next move by beam search over the falling piece, the hold slot and the
+ * preview queue. Depth 1 tries every placement of the current (or hold) piece; each
+ * further depth places the next previewed piece on each of the best boards so far. Only
+ * the {@code beamWidth} best boards, ranked by {@link BoardFeatures} weights plus the lines
+ * cleared on the way, survive to the next depth.
+ * <p>
+ * Boards inside the search are bitboards only: expanding a node copies its
+ * {@link BoardFeatures} into a per-thread scratch board, so children are materialised just
+ * for the candidates that make the beam. Expanding a depth is split across a
+ * {@link ForkJoinPool}, a few parent boards per task, each worker thread with its own
+ * {@link PlacementEnumerator}. Candidates are ranked by a total order, so the result does
+ * not depend on how the work was split.
+ * <p>
+ * Different move orders keep reaching the same position (the same settled cells, hold
+ * piece and queue position), so every candidate is Zobrist hashed and offered to a
+ * {@link TranspositionTable} shared by the workers. A worker drops a candidate as soon as
+ * the table holds the same position with a better value, and the beam keeps each position
+ * once, so its width is spent on distinct boards.
+ * <p>
+ * The search is anytime: once the time budget runs out the depth in progress is dropped
+ * and the best plan of the deepest completed depth is returned. Depth 1 is always
+ * completed, so a plan is returned even with a zero budget. Interrupting the planning
+ * thread ends the search the same way. A caller that no longer needs a plan at all passes
+ * a cancellation check to {@link #plan(BoardSnapshot, BooleanSupplier)} instead; the check
+ * belongs to that one call, so cancelling it never affects another search. One bot plans
+ * one move at a time, and further callers wait on a lock rather than a monitor so waiting
+ * virtual threads do not pin their carriers; use a bot per game when several games are
+ * played in parallel.
+ *
+ * @author COMP2042 Coursework
+ */
+public final class BeamSearchBot {
+
+    /**
+     * Parents expanded by one fork/join leaf task. Small enough to balance across cores,
+     * large enough that task overhead stays well below the enumeration itself.
+     */
+    private static final int PARENTS_PER_TASK = 4;
+
+    private static final int DEFAULT_TABLE_CAPACITY = 1 << 16;
+
+    private static final int LINES_CLEARED = BoardFeatures.Feature.LINES_CLEARED.ordinal();
+
+    // Best first; ties broken by parent, then placement, so the order is total
+    private static final Comparator<Candidate> BEST_FIRST = Comparator
+            .comparingDouble((Candidate c) -> -c.value)
+            .thenComparingInt(c -> c.parent)
+            .thenComparingInt(c -> c.state)
+            .thenComparing(c -> c.hold);
+
+    private final int beamWidth;
+    private final long timeBudgetNanos;
+    private final double[] weights;
+    private final ForkJoinPool pool;
+    private final TranspositionTable table;
+    private final ThreadLocal<Worker> workers = new ThreadLocal<>();
+    // Numbers the plans, so table entries from earlier plans are ignored
+    private int generation = 0;
+
+    private final ReentrantLock planLock = new ReentrantLock();
+
+    // Root search, kept so the chosen placement's path can be read back
+    private PlacementEnumerator rootEnumerator;
+
+    /**
+     * Constructs a bot with the default weights that searches on the common pool.
+     *
+     * @param beamWidth how many boards to keep per depth
+     * @param timeBudgetMillis how long one move may be planned for
+     */
+    public BeamSearchBot(int beamWidth, long timeBudgetMillis) {
+        this(beamWidth, timeBudgetMillis, defaultWeights(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructs a bot.
+     *
+     * @param beamWidth how many boards to keep per depth
+     * @param timeBudgetMillis how long one move may be planned for
+     * @param weights one weight per {@link BoardFeatures.Feature}, in declaration order
+     * @param pool the pool that expands each depth
+     */
+    public BeamSearchBot(int beamWidth, long timeBudgetMillis, double[] weights, ForkJoinPool pool) {
+        this(beamWidth, timeBudgetMillis, weights, pool, new TranspositionTable(DEFAULT_TABLE_CAPACITY));
+    }
+
+    /**
+     * Constructs a bot that deduplicates positions in the given table.
+     *
+     * @param beamWidth how many boards to keep per depth
+     * @param timeBudgetMillis how long one move may be planned for
+     * @param weights one weight per {@link BoardFeatures.Feature}, in declaration order
+     * @param pool the pool that expands each depth
+     * @param table the table shared by the workers of a search
+     */
+    public BeamSearchBot(int beamWidth, long timeBudgetMillis, double[] weights, ForkJoinPool pool,
+                         TranspositionTable table) {
+        if (beamWidth <= 0) {
+            throw new IllegalArgumentException("Beam width must be positive, got " + beamWidth);
+        }
+        if (timeBudgetMillis < 0) {
+            throw new IllegalArgumentException("Time budget must not be negative, got " + timeBudgetMillis);
+        }
+        if (weights.length != BoardFeatures.Feature.values().length) {
+            throw new IllegalArgumentException("Expected " + BoardFeatures.Feature.values().length
+                    + " weights, got " + weights.length);
+        }
+        this.beamWidth = beamWidth;
+        this.timeBudgetNanos = TimeUnit.MILLISECONDS.toNanos(timeBudgetMillis);
+        this.weights = weights.clone();
+        this.pool = pool;
+        this.table = table;
+    }
+
+    /**
+     * Gets a copy of the default weights, in {@link BoardFeatures.Feature} order. Height,
+     * holes, bumpiness and lines follow the widely used hand-tuned linear evaluation; the
+     * transition and well terms are small tie-breakers.
+     *
+     * @return the default weight vector
+     */
+    public static double[] defaultWeights() {
+        return new double[] {-0.510066, -0.35663, -0.184483, -0.05, -0.05, -0.02, 0.760666};
+    }
+
+    public int getBeamWidth() {
+        return beamWidth;
+    }
+
+    /**
+     * Plans the move for a snapshot's falling piece.
+     *
+     * @param snapshot the game state to plan from
+     * @return the best plan found within the time budget, or null if the piece cannot lock
+     *         anywhere
+     */
+    public Plan plan(BoardSnapshot snapshot) {
+        Thread caller = Thread.currentThread();
+        return plan(snapshot, caller::isInterrupted, false);
+    }
+
+    /**
+     * Plans the move for a snapshot's falling piece unless the caller gives up on it first.
+     * The search stops as soon as it sees {@code cancelled} return true, including while
+     * waiting for another plan on this bot to finish.
+     *
+     * @param snapshot the game state to plan from
+     * @param cancelled polled by the search and its workers; true once the plan is not needed
+     * @return the best plan found within the time budget, or null if the search was
+     *         cancelled before it completed depth 1 or the piece cannot lock anywhere
+     */
+    public Plan plan(BoardSnapshot snapshot, BooleanSupplier cancelled) {
+        return plan(snapshot, cancelled, true);
+    }
+
+    private Plan plan(BoardSnapshot snapshot, BooleanSupplier stop, boolean abandonable) {
+        long deadline = System.nanoTime() + timeBudgetNanos;
+        if (abandonable) {
+            // Waits in short slices so a search cancelled while queued never starts
+            try {
+                while (!planLock.tryLock(1, TimeUnit.MILLISECONDS)) {
+                    if (stop.getAsBoolean()) {
+                        return null;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return null;
+            }
+        } else {
+            planLock.lock();
+        }
+        try {
+            return search(snapshot, deadline, stop, abandonable);
+        } finally {
+            planLock.unlock();
+        }
+    }
+
+    private Plan search(BoardSnapshot snapshot, long deadline, BooleanSupplier stop, boolean abandonable) {
+        if (abandonable && stop.getAsBoolean()) {
+            return null;
+        }
+        int rows = snapshot.getRows();
+        int columns = snapshot.getColumns();
+        if (rootEnumerator == null || !matches(rootEnumerator, rows, columns)) {
+            rootEnumerator = new PlacementEnumerator(rows, columns);
+        }
+        BoardFeatures rootBoard = new BoardFeatures(rows, columns);
+        rootBoard.load(snapshot);
+
+        Brick[] queue = new Brick[snapshot.getPreviewSize()];
+        for (int i = 0; i < queue.length; i++) {
+            queue[i] = snapshot.getPreviewBrick(i);
+        }
+        Brick current = snapshot.getCurrentBrick();
+        Brick held = snapshot.getHeldBrick();
+        Brick rootHold = snapshot.canHold() ? (held != null ? held : queue[0]) : null;
+
+        // Depth 1: every placement of the current or hold piece, from the live piece state
+        int placements = rootEnumerator.enumerate(snapshot);
+        if (placements == 0 || abandonable && stop.getAsBoolean()) {
+            return null;
+        }
+        generation++;
+        Node root = new Node(rootBoard, 0L, held, 0, 0, 0, -1);
+        List<Candidate> candidates = new ArrayList<>(placements);
+        BoardFeatures probe = new BoardFeatures(rows, columns);
+        for (int i = 0; i < placements; i++) {
+            int state = rootEnumerator.getPlacementState(i);
+            boolean hold = rootEnumerator.usesHold(i);
+            // Holding into an empty slot brings in the next piece, so the queue moves on
+            Brick nextHeld = hold ? current : held;
+            int nextQueueIndex = hold && held == null ? 1 : 0;
+            candidates.add(evaluate(probe, root, i, hold ? rootHold : current, state, hold, nextHeld,
+                    nextQueueIndex, queue));
+        }
+        List<Node> beam = new ArrayList<>();
+        for (Candidate candidate : select(candidates, pass(1))) {
+            // At depth 1 the parent index is the placement index, which roots the line of play
+            beam.add(materialise(root, candidate, candidate.parent));
+        }
+        Node best = beam.get(0);
+        int depth = 1;
+        long expanded = placements;
+
+        while (System.nanoTime() < deadline && !stop.getAsBoolean()) {
+            int pass = pass(depth + 1);
+            Expansion expansion = pool.invoke(new ExpandTask(beam, queue, 0, beam.size(), deadline, stop, pass));
+            if (expansion.expired || !expansion.progressed) {
+                break;
+            }
+            List<Candidate> ranked = select(expansion.candidates, pass);
+            if (ranked.isEmpty()) {
+                break; // Every line of play tops out
+            }
+            List<Node> next = new ArrayList<>(ranked.size());
+            for (Candidate candidate : ranked) {
+                Node parent = beam.get(candidate.parent);
+                // Carried over: the preview ran out before this board
+                next.add(candidate.piece == null ? parent : materialise(parent, candidate, parent.root));
+            }
+            beam = next;
+            best = beam.get(0);
+            depth++;
+            expanded += expansion.expanded;
+        }
+
+        if (abandonable && stop.getAsBoolean()) {
+            return null;
+        }
+        int choice = best.root;
+        return new Plan(snapshot.getPieceState(), rootEnumerator.getPlacementState(choice),
+                rootEnumerator.usesHold(choice), rootEnumerator.getPath(choice), depth, expanded, best.value);
+    }
+
+    private static boolean matches(PlacementEnumerator enumerator, int rows, int columns) {
+        return enumerator.getRows() == rows && enumerator.getColumns() == columns;
+    }
+
+    /**
+     * Table pass for a depth of the current plan; always positive.
+     */
+    private int pass(int depth) {
+        return (generation & 0x3FFFFFF) << 5 | Math.min(depth, 31);
+    }
+
+    /**
+     * Ranks the candidates of a depth and keeps the best {@code beamWidth} distinct positions.
+     */
+    private List<Candidate> select(List<Candidate> candidates, int pass) {
+        List<Candidate> ranked = new ArrayList<>(candidates.size());
+        for (Candidate candidate : candidates) {
+            if (table.isBest(candidate.hash, pass, candidate.value)) {
+                ranked.add(candidate);
+            }
+        }
+        Collections.sort(ranked, BEST_FIRST);
+        // Table entries can be evicted, so duplicates are removed exactly here
+        List<Candidate> selected = new ArrayList<>(Math.min(beamWidth, ranked.size()));
+        Set<Long> seen = new HashSet<>();
+        for (Candidate candidate : ranked) {
+            if (selected.size() == beamWidth) {
+                break;
+            }
+            if (seen.add(candidate.hash)) {
+                selected.add(candidate);
+            }
+        }
+        return selected;
+    }
+
+    /**
+     * Scores placing a piece on a parent board, using the probe as scratch.
+     */
+    private Candidate evaluate(BoardFeatures probe, Node parent, int parentIndex, Brick piece, int state,
+                               boolean hold, Brick nextHeld, int nextQueueIndex, Brick[] queue) {
+        probe.copyFrom(parent.board);
+        int cleared = probe.place(shapeOf(piece, state), PieceState.x(state), PieceState.y(state));
+        double value = probe.score(weights) + weights[LINES_CLEARED] * parent.lines;
+        Brick next = nextQueueIndex < queue.length ? queue[nextQueueIndex] : null;
+        long hash = ZobristKeys.position(probe.getHash(), next, nextHeld, nextQueueIndex);
+        return new Candidate(parentIndex, state, hold, piece, nextHeld, nextQueueIndex, cleared, value, hash);
+    }
+
+    private static Node materialise(Node parent, Candidate candidate, int root) {
+        BoardFeatures board = new BoardFeatures(parent.board.getRows(), parent.board.getColumns());
+        board.copyFrom(parent.board);
+        int state = candidate.state;
+        board.place(shapeOf(candidate.piece, state), PieceState.x(state), PieceState.y(state));
+        return new Node(board, candidate.hash, candidate.nextHeld, candidate.nextQueueIndex,
+                parent.lines + candidate.cleared, candidate.value, root);
+    }
+
+    private static BrickShape shapeOf(Brick brick, int state) {
+        List<BrickShape> shapes = brick.getShapes();
+        return shapes.get(PieceState.rotation(state) % shapes.size());
+    }
+
+    private Worker worker(int rows, int columns) {
+        Worker worker = workers.get();
+        if (worker == null || !matches(worker.enumerator, rows, columns)) {
+            worker = new Worker(rows, columns);
+            workers.set(worker);
+        }
+        return worker;
+    }
+
+    /**
+     * Expands a slice of the beam, splitting it in halves down to a few parents per task.
+     */
+    @SuppressWarnings("serial") // Tasks are never serialized
+    private final class ExpandTask extends RecursiveTask<Expansion> {
+        private final List<Node> beam;
+        private final Brick[] queue;
+        private final int from;
+        private final int to;
+        private final long deadline;
+        // Belongs to the plan that started this task
+        private final BooleanSupplier stop;
+        private final int pass;
+
+        ExpandTask(List<Node> beam, Brick[] queue, int from, int to, long deadline, BooleanSupplier stop, int pass) {
+            this.beam = beam;
+            this.queue = queue;
+            this.from = from;
+            this.to = to;
+            this.deadline = deadline;
+            this.stop = stop;
+            this.pass = pass;
+        }
+
+        @Override
+        protected Expansion compute() {
+            if (to - from > PARENTS_PER_TASK) {
+                int middle = (from + to) >>> 1;
+                ExpandTask left = new ExpandTask(beam, queue, from, middle, deadline, stop, pass);
+                left.fork();
+                Expansion right = new ExpandTask(beam, queue, middle, to, deadline, stop, pass).compute();
+                return left.join().merge(right);
+            }
+            Expansion result = new Expansion();
+            Node first = beam.get(from);
+            Worker worker = worker(first.board.getRows(), first.board.getColumns());
+            for (int index = from; index < to; index++) {
+                if (System.nanoTime() >= deadline || stop.getAsBoolean()) {
+                    result.expired = true;
+                    return result;
+                }
+                Node parent = beam.get(index);
+                if (parent.queueIndex >= queue.length) {
+                    // Nothing left to place; keep the board so shallower lines still compete
+                    result.candidates.add(new Candidate(index, -1, false, null, parent.held, parent.queueIndex,
+                            0, parent.value, parent.hash));
+                    continue;
+                }
+                result.progressed = true;
+                int q = parent.queueIndex;
+                Brick current = queue[q];
+                Brick hold = parent.held != null ? parent.held : q + 1 < queue.length ? queue[q + 1] : null;
+                // Holding into an empty slot uses up the next piece as well
+                int holdQueueIndex = q + (parent.held == null ? 2 : 1);
+                int placements = worker.enumerator.enumerate(parent.board, current, hold);
+                result.expanded += placements;
+                for (int i = 0; i < placements; i++) {
+                    int state = worker.enumerator.getPlacementState(i);
+                    boolean usesHold = worker.enumerator.usesHold(i);
+                    Candidate candidate = usesHold
+                            ? evaluate(worker.probe, parent, index, hold, state, true, current, holdQueueIndex, queue)
+                            : evaluate(worker.probe, parent, index, current, state, false, parent.held, q + 1, queue);
+                    if (table.offer(candidate.hash, pass, candidate.value)) {
+                        result.candidates.add(candidate);
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    /**
+     * The candidates a slice of the beam produced, minus those the table already beat.
+     */
+    private static final class Expansion {
+        private final List<Candidate> candidates = new ArrayList<>();
+        private long expanded = 0;
+        private boolean expired = false;
+        private boolean progressed = false;
+
+        Expansion merge(Expansion other) {
+            candidates.addAll(other.candidates);
+            expanded += other.expanded;
+            expired |= other.expired;
+            progressed |= other.progressed;
+            return this;
+        }
+    }
+
+    /**
+     * Per-thread search buffers.
+     */
+    private static final class Worker {
+        private final PlacementEnumerator enumerator;
+        private final BoardFeatures probe;
+
+        Worker(int rows, int columns) {
+            enumerator = new PlacementEnumerator(rows, columns);
+            probe = new BoardFeatures(rows, columns);
+        }
+    }
+
+    /**
+     * A board in the beam, with the pieces still to come.
+     */
+    private static final class Node {
+        private final BoardFeatures board;
+        private final long hash;
+        private final Brick held;
+        // Index into the preview queue of the next piece to spawn
+        private final int queueIndex;
+        private final int lines;
+        private final double value;
+        // Depth 1 placement this line of play started with
+        private final int root;
+
+        Node(BoardFeatures board, long hash, Brick held, int queueIndex, int lines, double value, int root) {
+            this.board = board;
+            this.hash = hash;
+            this.held = held;
+            this.queueIndex = queueIndex;
+            this.lines = lines;
+            this.value = value;
+            this.root = root;
+        }
+    }
+
+    /**
+     * A scored placement on a beam node that has not been turned into a board yet.
+     */
+    private static final class Candidate {
+        private final int parent;
+        private final int state;
+        private final boolean hold;
+        private final Brick piece;
+        // Hold slot and queue position once the piece has locked
+        private final Brick nextHeld;
+        private final int nextQueueIndex;
+        private final int cleared;
+        private final double value;
+        private final long hash;
+
+        Candidate(int parent, int state, boolean hold, Brick piece, Brick nextHeld, int nextQueueIndex, int cleared,
+                  double value, long hash) {
+            this.parent = parent;
+            this.state = state;
+            this.hold = hold;
+            this.piece = piece;
+            this.nextHeld = nextHeld;
+            this.nextQueueIndex = nextQueueIndex;
+            this.cleared = cleared;
+            this.value = value;
+            this.hash = hash;
+        }
+    }
+
+    /**
+     * A planned move: the inputs that take the falling piece to where it should lock.
+     */
+    public static final class Plan {
+        private final int startState;
+        private final int placementState;
+        private final boolean hold;
+        private final List<PlacementEnumerator.Input> inputs;
+        private final int depth;
+        private final long expanded;
+        private final double value;
+
+        Plan(int startState, int placementState, boolean hold, List<PlacementEnumerator.Input> inputs, int depth,
+             long expanded, double value) {
+            this.startState = startState;
+            this.placementState = placementState;
+            this.hold = hold;
+            this.inputs = Collections.unmodifiableList(inputs);
+            this.depth = depth;
+            this.expanded = expanded;
+            this.value = value;
+        }
+
+        /**
+         * Gets the packed state the falling piece was in when the plan was made. The inputs
+         * only apply while the piece is still there.
+         */
+        public int getStartState() {
+            return startState;
+        }
+
+        /**
+         * Gets the packed state the piece locks in, as packed by {@link PieceState}.
+         */
+        public int getPlacementState() {
+            return placementState;
+        }
+
+        public boolean usesHold() {
+            return hold;
+        }
+
+        /**
+         * Gets the inputs to apply before locking the piece with a hard drop.
+         */
+        public List<PlacementEnumerator.Input> getInputs() {
+            return inputs;
+        }
+
+        /**
+         * Gets how many pieces ahead the search looked, counting the current one.
+         */
+        public int getDepth() {
+            return depth;
+        }
+
+        /**
+         * Gets the number of placements the search evaluated.
+         */
+        public long getExpanded() {
+            return expanded;
+        }
+
+        public double getValue() {
+            return value;
+        }
+
+        @Override
+        public String toString() {
+            return "Plan{" + PieceState.toString(placementState) + (hold ? ", hold" : "") + ", depth " + depth
+                    + ", inputs " + Arrays.toString(inputs.toArray()) + "}";
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package controller.bot;
+
+import controller.game.EventSource;
+import controller.game.EventType;
+import controller.game.InputEventListener;
+import controller.game.MoveEvent;
+import model.Board;
+import model.DownData;
+import model.PlacementEnumerator;
+import model.ViewData;
+
+import java.util.function.Consumer;
+
+/**
+ * Plays a game through an {@link InputEventListener}, the same way the keyboard does, with
+ * moves planned by a {@link BeamSearchBot}. Driving a {@link controller.game.GameController}
+ * plays the visible game; driving a {@link controller.game.HeadlessGameController} plays it
+ * without a GUI, for benchmarks and tuning. Every input is sent with
+ * {@link EventSource#BOT}, so bot soft drops earn no points.
+ * <p>
+ * Planning and playing are separate steps so a GUI can plan off the FX thread and apply
+ * the plan on it. A plan is only applied while the falling piece is where it was planned
+ * from; if gravity or the player moved it in the meantime the plan is dropped.
+ *
+ * @author COMP2042 Coursework
+ */
+public final class BotDriver {
+
+    private final InputEventListener listener;
+    private final Board board;
+    private final BeamSearchBot bot;
+    private Consumer<ViewData> viewListener = view -> { };
+
+    /**
+     * Constructs a driver.
+     *
+     * @param listener the game to send inputs to
+     * @param board the board the game is played on, read to plan moves
+     * @param bot the bot that plans each move
+     */
+    public BotDriver(InputEventListener listener, Board board, BeamSearchBot bot) {
+        this.listener = listener;
+        this.board = board;
+        this.bot = bot;
+    }
+
+    /**
+     * Sets a callback that receives the view after every input, e.g. to refresh the falling
+     * brick on screen while the plan plays out.
+     *
+     * @param viewListener the callback
+     */
+    public void setViewListener(Consumer<ViewData> viewListener) {
+        this.viewListener = viewListener;
+    }
+
+    /**
+     * Plans the move for the falling piece.
+     *
+     * @return the plan, or null if the piece cannot lock anywhere
+     */
+    public BeamSearchBot.Plan plan() {
+        return bot.plan(board.snapshot());
+    }
+
+    /**
+     * Applies a plan's inputs and locks the piece with a hard drop.
+     *
+     * @param plan a plan made for the current falling piece
+     * @return the result of the hard drop, or null if the plan no longer applies
+     */
+    public DownData play(BeamSearchBot.Plan plan) {
+        if (plan == null || board.getPieceState() != plan.getStartState()) {
+            return null;
+        }
+        for (PlacementEnumerator.Input input : plan.getInputs()) {
+            switch (input) {
+                case HOLD:
+                    viewListener.accept(listener.onHoldEvent(event(EventType.HOLD)));
+                    break;
+                case LEFT:
+                    viewListener.accept(listener.onLeftEvent(event(EventType.LEFT)));
+                    break;
+                case RIGHT:
+                    viewListener.accept(listener.onRightEvent(event(EventType.RIGHT)));
+                    break;
+                case ROTATE_LEFT:
+                    viewListener.accept(listener.onRotateEvent(event(EventType.ROTATE)));
+                    break;
+                case ROTATE_RIGHT:
+                    viewListener.accept(listener.onRotateRightEvent(event(EventType.ROTATE_RIGHT)));
+                    break;
+                case SOFT_DROP:
+                    // Stop one step short of locking; the hard drop below does that
+                    while (board.getHardDropDistance() > 0) {
+                        viewListener.accept(listener.onDownEvent(event(EventType.DOWN)).getViewData());
+                    }
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown input " + input);
+            }
+        }
+        return listener.onHardDropEvent(event(EventType.HARD_DROP));
+    }
+
+    /**
+     * Plans and plays one piece.
+     *
+     * @return the result of the hard drop, or null if the piece cannot lock anywhere
+     */
+    public DownData playPiece() {
+        return play(plan());
+    }
+
+    private static MoveEvent event(EventType type) {
+        return new MoveEvent(type, EventSource.BOT);
+    }
+}
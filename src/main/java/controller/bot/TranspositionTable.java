@@ -0,0 +1,146 @@
+package controller.bot;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size table of the best value seen for each position hash in a search pass, shared
+ * by all the worker threads of a search. Positions reached by different move orders have
+ * the same {@link model.ZobristKeys Zobrist} hash, so a worker that finds its candidate
+ * already recorded with a better value can drop it before it is ranked.
+ * <p>
+ * Entries are split over independently locked stripes chosen by the high bits of the
+ * hash, so workers rarely wait for each other. Within a stripe a hash may sit in one of a
+ * few neighbouring slots; when they are all taken, an entry from an older pass is replaced
+ * first, then the lowest-valued one. The table never grows, so a busy search may lose
+ * entries; that only means a duplicate is ranked and removed later.
+ *
+ * @author COMP2042 Coursework
+ */
+public final class TranspositionTable {
+
+    private static final int STRIPES = 64;
+    private static final int SLOTS_PER_BUCKET = 4;
+    // Pass 0 marks an empty slot
+    private static final int EMPTY = 0;
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+    private final int bucketMask;
+
+    /**
+     * Constructs a table.
+     *
+     * @param capacity the number of entries, rounded up to a power of two of at least 256
+     */
+    public TranspositionTable(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive, got " + capacity);
+        }
+        int perStripe = Integer.highestOneBit(Math.max(capacity / STRIPES - 1, SLOTS_PER_BUCKET - 1)) << 1;
+        bucketMask = perStripe / SLOTS_PER_BUCKET - 1;
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe(perStripe);
+        }
+    }
+
+    public int getCapacity() {
+        return STRIPES * stripes[0].hashes.length;
+    }
+
+    /**
+     * Records that a position was reached in a search pass.
+     *
+     * @param hash the position's hash
+     * @param pass the search pass, any positive number; entries of other passes are ignored
+     * @param value the position's value, higher being better
+     * @return false if the position is already recorded in this pass with a strictly
+     *         higher value, so the caller can drop it; true otherwise
+     */
+    public boolean offer(long hash, int pass, double value) {
+        Stripe stripe = stripe(hash);
+        int base = bucket(hash);
+        synchronized (stripe) {
+            int victim = base;
+            for (int slot = base; slot < base + SLOTS_PER_BUCKET; slot++) {
+                if (stripe.passes[slot] == pass && stripe.hashes[slot] == hash) {
+                    if (stripe.values[slot] > value) {
+                        return false;
+                    }
+                    stripe.values[slot] = value;
+                    return true;
+                }
+                if (isBetterVictim(stripe, slot, victim, pass)) {
+                    victim = slot;
+                }
+            }
+            stripe.hashes[victim] = hash;
+            stripe.passes[victim] = pass;
+            stripe.values[victim] = value;
+            return true;
+        }
+    }
+
+    /**
+     * Checks whether a value is still the best recorded for a position in a pass.
+     *
+     * @param hash the position's hash
+     * @param pass the search pass
+     * @param value the value to check
+     * @return false if a strictly higher value is recorded, true otherwise (including when
+     *         the position was evicted)
+     */
+    public boolean isBest(long hash, int pass, double value) {
+        Stripe stripe = stripe(hash);
+        int base = bucket(hash);
+        synchronized (stripe) {
+            for (int slot = base; slot < base + SLOTS_PER_BUCKET; slot++) {
+                if (stripe.passes[slot] == pass && stripe.hashes[slot] == hash) {
+                    return stripe.values[slot] <= value;
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Empties the table.
+     */
+    public void clear() {
+        for (Stripe stripe : stripes) {
+            synchronized (stripe) {
+                Arrays.fill(stripe.passes, EMPTY);
+            }
+        }
+    }
+
+    private static boolean isBetterVictim(Stripe stripe, int slot, int victim, int pass) {
+        boolean slotStale = stripe.passes[slot] != pass;
+        boolean victimStale = stripe.passes[victim] != pass;
+        if (slotStale != victimStale) {
+            return slotStale;
+        }
+        return !slotStale && stripe.values[slot] < stripe.values[victim];
+    }
+
+    private Stripe stripe(long hash) {
+        return stripes[(int) (hash >>> 58)];
+    }
+
+    private int bucket(long hash) {
+        return ((int) hash & bucketMask) * SLOTS_PER_BUCKET;
+    }
+
+    /**
+     * One independently locked share of the entries, as parallel arrays.
+     */
+    private static final class Stripe {
+        private final long[] hashes;
+        private final int[] passes;
+        private final double[] values;
+
+        Stripe(int slots) {
+            hashes = new long[slots];
+            passes = new int[slots];
+            values = new double[slots];
+        }
+    }
+}
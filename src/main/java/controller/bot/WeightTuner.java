@@ -0,0 +1,428 @@
+package controller.bot;
+
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import controller.game.HeadlessGameController;
+import model.BoardFeatures;
+import model.DownData;
+import model.SimpleBoard;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Tunes bot evaluation weights with a genetic algorithm. Every candidate weight vector
+ * plays the same seeded headless games with a greedy {@link BeamSearchBot} (beam width 1,
+ * no lookahead) through a {@link HeadlessGameController}, so it is scored by the real game
+ * rules. Its fitness is the mean number of lines cleared per game, with games capped at a
+ * number of pieces so good candidates finish too.
+ * <p>
+ * Each generation keeps the best candidates unchanged and breeds the rest: two parents
+ * picked by tournament, a child that is their fitness-weighted average, and a Gaussian
+ * mutation of some weights. Only the direction of a weight vector affects which placement
+ * wins, so vectors are kept at unit length. All games of a generation are spread across a
+ * {@link ForkJoinPool}.
+ * <p>
+ * All randomness derives from the seed and the generation number, so a run resumed from a
+ * checkpoint continues exactly as if it had not been interrupted. After every generation
+ * the population is checkpointed and the best weights so far are written as a
+ * {@link WeightsFile}. Throughput is logged in games per second per core.
+ * <p>
+ * Run from the command line with optional {@code --generations}, {@code --population},
+ * {@code --games}, {@code --pieces}, {@code --seed}, {@code --threads},
+ * {@code --checkpoint} and {@code --out} arguments; an existing checkpoint is resumed.
+ *
+ * @author COMP2042 Coursework
+ */
+public final class WeightTuner {
+
+    private static final int TOURNAMENT_SIZE = 3;
+    private static final double MUTATION_RATE = 0.2;
+    private static final double MUTATION_STEP = 0.2;
+    private static final int FEATURE_COUNT = BoardFeatures.Feature.values().length;
+
+    private final int populationSize;
+    private final int gamesPerCandidate;
+    private final int piecesPerGame;
+    private final long seed;
+    private final ForkJoinPool pool;
+
+    private double[][] population;
+    private int generation = 0;
+    private double[] bestWeights;
+    private double bestFitness = Double.NEGATIVE_INFINITY;
+    private Path checkpoint;
+    private Path output;
+    private Consumer<String> log = message -> { };
+
+    /**
+     * Constructs a tuner with a fresh population: the default weights plus random vectors.
+     *
+     * @param populationSize the number of candidates per generation (at least 2)
+     * @param gamesPerCandidate the number of games each candidate plays per generation
+     * @param piecesPerGame the number of pieces after which a game is stopped
+     * @param seed the seed all games and genetic operators derive from
+     * @param pool the pool the games run on
+     */
+    public WeightTuner(int populationSize, int gamesPerCandidate, int piecesPerGame, long seed, ForkJoinPool pool) {
+        if (populationSize < 2 || gamesPerCandidate <= 0 || piecesPerGame <= 0) {
+            throw new IllegalArgumentException("Need at least 2 candidates, 1 game and 1 piece, got "
+                    + populationSize + ", " + gamesPerCandidate + " and " + piecesPerGame);
+        }
+        this.populationSize = populationSize;
+        this.gamesPerCandidate = gamesPerCandidate;
+        this.piecesPerGame = piecesPerGame;
+        this.seed = seed;
+        this.pool = pool;
+
+        SplittableRandom random = new SplittableRandom(seed);
+        population = new double[populationSize][];
+        population[0] = normalise(BeamSearchBot.defaultWeights());
+        for (int i = 1; i < populationSize; i++) {
+            double[] weights = new double[FEATURE_COUNT];
+            for (int w = 0; w < FEATURE_COUNT; w++) {
+                weights[w] = random.nextDouble(-1.0, 1.0);
+            }
+            population[i] = normalise(weights);
+        }
+    }
+
+    /**
+     * Sets the file the population is saved to after every generation.
+     *
+     * @param checkpoint the checkpoint file, or null to not checkpoint
+     */
+    public void setCheckpoint(Path checkpoint) {
+        this.checkpoint = checkpoint;
+    }
+
+    /**
+     * Sets the weights file the best candidate so far is written to after every generation.
+     *
+     * @param output the weights file, or null to not write one
+     */
+    public void setOutput(Path output) {
+        this.output = output;
+    }
+
+    public void setLog(Consumer<String> log) {
+        this.log = log;
+    }
+
+    public int getGeneration() {
+        return generation;
+    }
+
+    public double[] getBestWeights() {
+        return bestWeights == null ? null : bestWeights.clone();
+    }
+
+    public double getBestFitness() {
+        return bestFitness;
+    }
+
+    /**
+     * Runs generations until the given total is reached, counting those of a resumed run.
+     *
+     * @param generations the total number of generations
+     * @return the best weights found so far
+     * @throws IOException if a checkpoint or weights file cannot be written
+     */
+    public double[] run(int generations) throws IOException {
+        while (generation < generations) {
+            double[] fitness = evaluate();
+            Integer[] ranking = rank(fitness);
+            if (fitness[ranking[0]] > bestFitness) {
+                bestFitness = fitness[ranking[0]];
+                bestWeights = population[ranking[0]].clone();
+            }
+            population = breed(fitness, ranking);
+            generation++;
+            if (checkpoint != null) {
+                saveCheckpoint(checkpoint);
+            }
+            if (output != null) {
+                WeightsFile.write(output, bestWeights, String.format(Locale.ROOT,
+                        "Tuned over %d generations, %.2f lines per game", generation, bestFitness));
+            }
+        }
+        return getBestWeights();
+    }
+
+    /**
+     * Plays every game of the current generation and averages the lines per candidate.
+     */
+    private double[] evaluate() {
+        int games = populationSize * gamesPerCandidate;
+        long[] gameSeeds = new long[gamesPerCandidate];
+        // Every candidate plays the same games, so differences come from the weights alone
+        SplittableRandom random = generationRandom(0x5EED);
+        for (int g = 0; g < gamesPerCandidate; g++) {
+            gameSeeds[g] = random.nextLong();
+        }
+        int[] lines = new int[games];
+        long start = System.nanoTime();
+        pool.submit(() -> IntStream.range(0, games).parallel().forEach(task ->
+                lines[task] = playGame(population[task / gamesPerCandidate], gameSeeds[task % gamesPerCandidate],
+                        piecesPerGame))).join();
+        double seconds = Math.max((System.nanoTime() - start) / 1e9, 1e-9);
+
+        double[] fitness = new double[populationSize];
+        for (int task = 0; task < games; task++) {
+            fitness[task / gamesPerCandidate] += lines[task];
+        }
+        double best = Double.NEGATIVE_INFINITY;
+        double total = 0;
+        for (int i = 0; i < populationSize; i++) {
+            fitness[i] /= gamesPerCandidate;
+            best = Math.max(best, fitness[i]);
+            total += fitness[i];
+        }
+        log.accept(String.format(Locale.ROOT,
+                "generation %d: best %.2f lines/game, mean %.2f, %d games in %.2f s, %.1f games/s/core",
+                generation + 1, best, total / populationSize, games, seconds,
+                games / seconds / pool.getParallelism()));
+        return fitness;
+    }
+
+    /**
+     * Plays one headless game with a greedy bot.
+     *
+     * @param weights the evaluation weights
+     * @param seed the seed of the brick sequence
+     * @param maxPieces the number of pieces after which the game is stopped
+     * @return the number of lines cleared
+     */
+    public static int playGame(double[] weights, long seed, int maxPieces) {
+        SimpleBoard board = new SimpleBoard(25, 10, new SeededBrickGenerator(seed));
+        HeadlessGameController game = new HeadlessGameController(board);
+        // A zero budget never reaches the pool, and a tiny table is enough for depth 1
+        BeamSearchBot bot = new BeamSearchBot(1, 0, weights, ForkJoinPool.commonPool(), new TranspositionTable(256));
+        BotDriver driver = new BotDriver(game, board, bot);
+        int lines = 0;
+        for (int piece = 0; piece < maxPieces && !game.isGameOver(); piece++) {
+            DownData downData = driver.playPiece();
+            if (downData == null) {
+                break;
+            }
+            lines += downData.getClearRow().getLinesRemoved();
+        }
+        return lines;
+    }
+
+    private Integer[] rank(double[] fitness) {
+        Integer[] ranking = new Integer[populationSize];
+        for (int i = 0; i < populationSize; i++) {
+            ranking[i] = i;
+        }
+        // Best first; index order breaks ties so the ranking is reproducible
+        Arrays.sort(ranking, Comparator.comparingDouble((Integer i) -> -fitness[i]).thenComparingInt(i -> i));
+        return ranking;
+    }
+
+    private double[][] breed(double[] fitness, Integer[] ranking) {
+        SplittableRandom random = generationRandom(0xB8EED);
+        double[][] next = new double[populationSize][];
+        int elites = Math.max(1, populationSize / 8);
+        for (int i = 0; i < elites; i++) {
+            next[i] = population[ranking[i]];
+        }
+        for (int i = elites; i < populationSize; i++) {
+            int a = tournament(fitness, random);
+            int b = tournament(fitness, random);
+            double weightA = Math.max(fitness[a], 0);
+            double weightB = Math.max(fitness[b], 0);
+            if (weightA + weightB == 0) {
+                weightA = 1;
+                weightB = 1;
+            }
+            double[] child = new double[FEATURE_COUNT];
+            for (int w = 0; w < FEATURE_COUNT; w++) {
+                child[w] = weightA * population[a][w] + weightB * population[b][w];
+                if (random.nextDouble() < MUTATION_RATE) {
+                    child[w] += random.nextGaussian() * MUTATION_STEP * (weightA + weightB);
+                }
+            }
+            next[i] = normalise(child);
+        }
+        return next;
+    }
+
+    private int tournament(double[] fitness, SplittableRandom random) {
+        int best = random.nextInt(populationSize);
+        for (int round = 1; round < TOURNAMENT_SIZE; round++) {
+            int challenger = random.nextInt(populationSize);
+            if (fitness[challenger] > fitness[best]) {
+                best = challenger;
+            }
+        }
+        return best;
+    }
+
+    private SplittableRandom generationRandom(long salt) {
+        return new SplittableRandom(seed ^ salt * 0x9E3779B97F4A7C15L ^ (long) generation * 0xC2B2AE3D27D4EB4FL);
+    }
+
+    private static double[] normalise(double[] weights) {
+        double norm = 0;
+        for (double weight : weights) {
+            norm += weight * weight;
+        }
+        if (norm == 0) {
+            return normalise(BeamSearchBot.defaultWeights());
+        }
+        norm = Math.sqrt(norm);
+        for (int w = 0; w < weights.length; w++) {
+            weights[w] /= norm;
+        }
+        return weights;
+    }
+
+    /**
+     * Saves the run so far: settings, generation count, best candidate and the population
+     * of the next generation.
+     *
+     * @param path the checkpoint file, replaced atomically
+     * @throws IOException if the file cannot be written
+     */
+    public void saveCheckpoint(Path path) throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add("# Weight tuner checkpoint");
+        lines.add("seed=" + seed);
+        lines.add("population=" + populationSize);
+        lines.add("games=" + gamesPerCandidate);
+        lines.add("pieces=" + piecesPerGame);
+        lines.add("generation=" + generation);
+        if (bestWeights != null) {
+            lines.add("bestFitness=" + bestFitness);
+            lines.add("best=" + join(bestWeights));
+        }
+        for (double[] candidate : population) {
+            lines.add("candidate=" + join(candidate));
+        }
+        WeightsFile.writeAtomically(path, lines);
+    }
+
+    /**
+     * Continues a run from a checkpoint written with the same settings.
+     *
+     * @param path the checkpoint file
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if the checkpoint was written with other settings
+     */
+    public void resume(Path path) throws IOException {
+        List<double[]> candidates = new ArrayList<>();
+        for (String line : Files.readAllLines(path, StandardCharsets.UTF_8)) {
+            if (line.isBlank() || line.startsWith("#")) {
+                continue;
+            }
+            int equals = line.indexOf('=');
+            String key = line.substring(0, equals);
+            String value = line.substring(equals + 1);
+            switch (key) {
+                case "seed": expect(key, seed, Long.parseLong(value)); break;
+                case "population": expect(key, populationSize, Long.parseLong(value)); break;
+                case "games": expect(key, gamesPerCandidate, Long.parseLong(value)); break;
+                case "pieces": expect(key, piecesPerGame, Long.parseLong(value)); break;
+                case "generation": generation = Integer.parseInt(value); break;
+                case "bestFitness": bestFitness = Double.parseDouble(value); break;
+                case "best": bestWeights = split(value); break;
+                case "candidate": candidates.add(split(value)); break;
+                default: throw new IllegalArgumentException("Unknown checkpoint entry " + key);
+            }
+        }
+        if (candidates.size() != populationSize) {
+            throw new IllegalArgumentException("Checkpoint has " + candidates.size() + " candidates, expected "
+                    + populationSize);
+        }
+        population = candidates.toArray(new double[0][]);
+    }
+
+    private static void expect(String key, long expected, long actual) {
+        if (expected != actual) {
+            throw new IllegalArgumentException("Checkpoint " + key + " is " + actual + ", tuner uses " + expected);
+        }
+    }
+
+    private static String join(double[] weights) {
+        StringBuilder builder = new StringBuilder();
+        for (int w = 0; w < weights.length; w++) {
+            if (w > 0) {
+                builder.append(',');
+            }
+            // Double.toString round-trips exactly, which keeps resumed runs identical
+            builder.append(weights[w]);
+        }
+        return builder.toString();
+    }
+
+    private static double[] split(String value) {
+        String[] parts = value.split(",");
+        if (parts.length != FEATURE_COUNT) {
+            throw new IllegalArgumentException("Expected " + FEATURE_COUNT + " weights, got " + parts.length);
+        }
+        double[] weights = new double[FEATURE_COUNT];
+        for (int w = 0; w < FEATURE_COUNT; w++) {
+            weights[w] = Double.parseDouble(parts[w]);
+        }
+        return weights;
+    }
+
+    /**
+     * Runs the tuner from the command line.
+     *
+     * @param args {@code --name value} pairs, see the class documentation
+     * @throws IOException if a checkpoint or weights file cannot be read or written
+     */
+    public static void main(String[] args) throws IOException {
+        int generations = 50;
+        int population = 24;
+        int games = 200;
+        int pieces = 500;
+        long seed = 2042L;
+        int threads = Runtime.getRuntime().availableProcessors();
+        Path checkpointPath = Path.of("tuner-checkpoint.txt");
+        Path outputPath = WeightsFile.DEFAULT_PATH;
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--generations": generations = Integer.parseInt(value); break;
+                case "--population": population = Integer.parseInt(value); break;
+                case "--games": games = Integer.parseInt(value); break;
+                case "--pieces": pieces = Integer.parseInt(value); break;
+                case "--seed": seed = Long.parseLong(value); break;
+                case "--threads": threads = Integer.parseInt(value); break;
+                case "--checkpoint": checkpointPath = Path.of(value); break;
+                case "--out": outputPath = Path.of(value); break;
+                default: throw new IllegalArgumentException("Unknown option " + args[i]);
+            }
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            WeightTuner tuner = new WeightTuner(population, games, pieces, seed, pool);
+            tuner.setCheckpoint(checkpointPath);
+            tuner.setOutput(outputPath);
+            tuner.setLog(System.out::println);
+            if (Files.isRegularFile(checkpointPath)) {
+                tuner.resume(checkpointPath);
+                System.out.println("Resumed from " + checkpointPath + " at generation " + tuner.getGeneration());
+            }
+            tuner.run(generations);
+            System.out.println("Best " + String.format(Locale.ROOT, "%.2f", tuner.getBestFitness())
+                    + " lines/game, weights written to " + outputPath);
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package controller.bot;
+
+import model.BoardFeatures;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reads and writes bot evaluation weights as text, one {@code FEATURE=value} line per
+ * {@link BoardFeatures.Feature}. Lines starting with {@code #} are comments. This is the
+ * format {@link WeightTuner} produces and the GUI bots load.
+ *
+ * @author COMP2042 Coursework
+ */
+public final class WeightsFile {
+
+    /**
+     * Where the GUI bots look for tuned weights, relative to the working directory.
+     */
+    public static final Path DEFAULT_PATH = Path.of("bot-weights.txt");
+
+    private static final BoardFeatures.Feature[] FEATURES = BoardFeatures.Feature.values();
+
+    private WeightsFile() {
+    }
+
+    /**
+     * Reads a weights file.
+     *
+     * @param path the file to read
+     * @return one weight per feature, in declaration order
+     * @throws IOException if the file cannot be read
+     * @throws IllegalArgumentException if a feature is missing, unknown or not a number
+     */
+    public static double[] read(Path path) throws IOException {
+        return parse(Files.readAllLines(path, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Reads a weights file if there is one.
+     *
+     * @param path the file to read
+     * @return the weights from the file, or {@link BeamSearchBot#defaultWeights()} if it does
+     *         not exist
+     */
+    public static double[] readOrDefault(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return BeamSearchBot.defaultWeights();
+        }
+        try {
+            return read(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read bot weights from " + path, e);
+        }
+    }
+
+    /**
+     * Writes a weights file, replacing it atomically so readers never see half a file.
+     *
+     * @param path the file to write
+     * @param weights one weight per feature, in declaration order
+     * @param comment a line to put at the top of the file, or null
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Path path, double[] weights, String comment) throws IOException {
+        List<String> lines = new ArrayList<>();
+        if (comment != null) {
+            lines.add("# " + comment);
+        }
+        lines.addAll(format(weights));
+        writeAtomically(path, lines);
+    }
+
+    static List<String> format(double[] weights) {
+        checkLength(weights);
+        List<String> lines = new ArrayList<>(FEATURES.length);
+        for (BoardFeatures.Feature feature : FEATURES) {
+            lines.add(feature.name() + "=" + String.format(Locale.ROOT, "%.17g", weights[feature.ordinal()]));
+        }
+        return lines;
+    }
+
+    static double[] parse(List<String> lines) {
+        double[] weights = new double[FEATURES.length];
+        boolean[] seen = new boolean[FEATURES.length];
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            int equals = trimmed.indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException("Expected FEATURE=value, got '" + trimmed + "'");
+            }
+            BoardFeatures.Feature feature = BoardFeatures.Feature.valueOf(trimmed.substring(0, equals).trim());
+            weights[feature.ordinal()] = Double.parseDouble(trimmed.substring(equals + 1).trim());
+            seen[feature.ordinal()] = true;
+        }
+        for (BoardFeatures.Feature feature : FEATURES) {
+            if (!seen[feature.ordinal()]) {
+                throw new IllegalArgumentException("Missing weight for " + feature);
+            }
+        }
+        return weights;
+    }
+
+    static void writeAtomically(Path path, List<String> lines) throws IOException {
+        Path absolute = path.toAbsolutePath();
+        Path temporary = absolute.resolveSibling(absolute.getFileName() + ".tmp");
+        Files.write(temporary, lines, StandardCharsets.UTF_8);
+        Files.move(temporary, absolute, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void checkLength(double[] weights) {
+        if (weights.length != FEATURES.length) {
+            throw new IllegalArgumentException("Expected " + FEATURES.length + " weights, got " + weights.length);
+        }
+    }
+}
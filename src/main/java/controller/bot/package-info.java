@@ -0,0 +1,8 @@
+/**
+ * Bot package containing computer players.
+ * Plans moves by searching placements of the falling, held and previewed pieces,
+ * and plays them through the same input events as the keyboard, with or without a GUI.
+ *
+ * @author COMP2042 Coursework
+ */
+package controller.bot;
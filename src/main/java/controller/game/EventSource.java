@@ -1,5 +1,5 @@
 package controller.game;
 
 public enum EventSource {
-    USER, THREAD
+    USER, THREAD, BOT
 }
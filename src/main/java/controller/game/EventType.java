@@ -1,5 +1,5 @@
 package controller.game;
 
 public enum EventType {
-    DOWN, LEFT, RIGHT, ROTATE, HARD_DROP, HOLD
+    DOWN, LEFT, RIGHT, ROTATE, ROTATE_RIGHT, HARD_DROP, HOLD, REWIND
 }
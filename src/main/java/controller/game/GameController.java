@@ -1,8 +1,12 @@
 package controller.game;
 
+import com.comp2042.logic.bricks.RandomBrickGenerator;
 import controller.gui.GuiController;
 import model.Board;
+import model.BoardSnapshot;
 import model.DownData;
+import model.GameEngine;
+import model.GameHistory;
 import model.PowerUp;
 import model.SimpleBoard;
 import model.ViewData;
@@ -11,14 +15,23 @@ import view.ClearRow;
 /**
  * Main game controller that orchestrates gameplay logic.
  * Implements InputEventListener to handle player input events and coordinates
- * between the game board model and the GUI view. Manages power-ups, scoring,
- * skill points, and game state transitions.
+ * between the game board model and the GUI view. The game rules themselves live in a
+ * headless {@link GameEngine}; this class forwards input to it and pushes the results
+ * to the GUI.
  * 
  * @author COMP2042 Coursework
  */
 public class GameController implements InputEventListener {
 
-    private Board board = new SimpleBoard(25, 10);
+    // Upcoming bricks shown in the next queue
+    private static final int PREVIEW_SIZE = 5;
+
+    private final Board board;
+
+    private final GameEngine engine;
+
+    // One entry per locked piece, for rewinding in practice games; null in scored games
+    private final GameHistory history;
 
     private final GuiController viewGuiController;
 
@@ -29,12 +42,48 @@ public class GameController implements InputEventListener {
      * @param c the GuiController instance to coordinate with
      */
     public GameController(GuiController c) {
+        this(c, false);
+    }
+
+    /**
+     * Constructs a new GameController for a scored or a practice game.
+     * Only practice games record history, so only they can be rewound.
+     * 
+     * @param c the GuiController instance to coordinate with
+     * @param practice whether this is a practice game
+     */
+    public GameController(GuiController c, boolean practice) {
+        this(c, new SimpleBoard(25, 10, new RandomBrickGenerator(PREVIEW_SIZE)), practice);
+    }
+
+    /**
+     * Constructs a new GameController that plays on the given board implementation.
+     * Allows swapping in an alternative engine such as {@link model.BitboardBoard}.
+     * 
+     * @param c the GuiController instance to coordinate with
+     * @param board the board implementation to play on
+     */
+    public GameController(GuiController c, Board board) {
+        this(c, board, false);
+    }
+
+    /**
+     * Constructs a new GameController that plays on the given board implementation.
+     * 
+     * @param c the GuiController instance to coordinate with
+     * @param board the board implementation to play on
+     * @param practice whether this is a practice game, which records history for rewinding
+     */
+    public GameController(GuiController c, Board board, boolean practice) {
+        this.board = board;
         viewGuiController = c;
-        board.createNewBrick();
+        engine = new GameEngine(board);
+        history = practice ? new GameHistory() : null;
+        record();
         viewGuiController.setEventListener(this);
-        viewGuiController.initGameView(board.getBoardMatrix(), board.getViewData());
-        viewGuiController.bindScore(board.getScore().scoreProperty());
-        viewGuiController.bindSkillPoints(getPowerUpManager().skillPointsProperty());
+        viewGuiController.initGameView(board.getBoardMatrixView(), board.getViewData());
+        viewGuiController.bindScore(engine.getScore());
+        viewGuiController.bindSkillPoints(engine.getPowerUpManager());
     }
 
     /**
@@ -47,29 +96,15 @@ public class GameController implements InputEventListener {
      */
     @Override
     public DownData onDownEvent(MoveEvent event) {
-        boolean canMove = board.moveBrickDown();
-        ClearRow clearRow = null;
-        if (!canMove) {
-            board.mergeBrickToBackground();
-            clearRow = board.clearRows();
-            if (clearRow.getLinesRemoved() > 0) {
-                int bonus = clearRow.getScoreBonus();
-                board.getScore().add(bonus);
-                // Award skill points (1 point per 10 score)
-                getPowerUpManager().awardSkillPoints(bonus);
-            }
-            if (board.createNewBrick()) {
+        ClearRow clearRow = engine.moveDown(event.getEventSource() == EventSource.USER);
+        if (clearRow != null) {
+            // The brick was locked. Recorded even when it ended the game, so rewinding
+            // takes back just the piece that topped out
+            record();
+            if (engine.isGameOver()) {
                 viewGuiController.gameOver();
             }
-
-            viewGuiController.refreshGameBackground(board.getBoardMatrix());
-
-        } else {
-            if (event.getEventSource() == EventSource.USER) {
-                board.getScore().add(1);
-                // Award skill points
-                getPowerUpManager().awardSkillPoints(1);
-            }
+            viewGuiController.refreshGameBackground(board.getBoardMatrixView());
         }
         
         return new DownData(clearRow, board.getViewData());
@@ -84,7 +119,7 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onLeftEvent(MoveEvent event) {
-        board.moveBrickLeft();
+        engine.moveLeft();
         return board.getViewData();
     }
 
@@ -97,7 +132,7 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRightEvent(MoveEvent event) {
-        board.moveBrickRight();
+        engine.moveRight();
         return board.getViewData();
     }
 
@@ -110,7 +145,20 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onRotateEvent(MoveEvent event) {
-        board.rotateLeftBrick();
+        engine.rotateLeft();
+        return board.getViewData();
+    }
+
+    /**
+     * Handles the clockwise rotation event.
+     * Rotates the current brick clockwise.
+     * 
+     * @param event the move event
+     * @return ViewData containing the updated brick rotation
+     */
+    @Override
+    public ViewData onRotateRightEvent(MoveEvent event) {
+        engine.rotateRight();
         return board.getViewData();
     }
 
@@ -124,40 +172,19 @@ public class GameController implements InputEventListener {
      */
     @Override
     public DownData onHardDropEvent(MoveEvent event) {
-        // Hard drop: instantly drop the brick to the bottom
-        // Calculate drop distance before dropping for scoring
-        int dropDistance = ((SimpleBoard) board).getHardDropDistance();
-        boolean dropped = board.hardDropBrick();
-        if (dropped) {
-            // Give score bonus based on drop distance (2 points per row dropped)
-            int bonus = dropDistance * 2;
-            board.getScore().add(bonus);
-            // Award skill points
-            getPowerUpManager().awardSkillPoints(bonus);
-        }
-        
-        // Now merge the brick and process
-        board.mergeBrickToBackground();
+        ClearRow clearRow = engine.hardDrop();
         
         // Check if bomb effect should be shown (only on hard drop)
-        SimpleBoard simpleBoard = (SimpleBoard) board;
-        if (simpleBoard.shouldShowBombEffect()) {
-            viewGuiController.showBoomEffect(simpleBoard.getBombEffectX(), simpleBoard.getBombEffectY());
-            simpleBoard.clearBombEffectFlag();
-        }
-        
-        ClearRow clearRow = board.clearRows();
-        if (clearRow.getLinesRemoved() > 0) {
-            int bonus = clearRow.getScoreBonus();
-            board.getScore().add(bonus);
-            // Award skill points
-            getPowerUpManager().awardSkillPoints(bonus);
+        if (board.shouldShowBombEffect()) {
+            viewGuiController.showBoomEffect(board.getBombEffectX(), board.getBombEffectY());
+            board.clearBombEffectFlag();
         }
-        if (board.createNewBrick()) {
+        record();
+        if (engine.isGameOver()) {
             viewGuiController.gameOver();
         }
         
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        viewGuiController.refreshGameBackground(board.getBoardMatrixView());
         return new DownData(clearRow, board.getViewData());
     }
 
@@ -171,7 +198,27 @@ public class GameController implements InputEventListener {
      */
     @Override
     public ViewData onHoldEvent(MoveEvent event) {
-        board.holdBrick();
+        engine.hold();
+        return board.getViewData();
+    }
+
+    /**
+     * Handles the rewind event (undo the last locked piece).
+     * Restores the board, score and power-ups as they were when the previous piece
+     * spawned. Each step only rewrites the rows that differ, so holding the key scrubs
+     * back through long games without stalling the FX thread. Rewinding a game that is
+     * over makes it playable again. Does nothing outside practice games.
+     * 
+     * @param event the move event
+     * @return ViewData containing the brick that was falling at the restored point
+     */
+    @Override
+    public ViewData onRewindEvent(MoveEvent event) {
+        BoardSnapshot snapshot = history != null ? history.rewind(1) : null;
+        if (snapshot != null) {
+            engine.restore(snapshot);
+            viewGuiController.refreshGameBackground(board.getBoardMatrixView());
+        }
         return board.getViewData();
     }
 
@@ -181,8 +228,37 @@ public class GameController implements InputEventListener {
      */
     @Override
     public void createNewGame() {
-        board.newGame();
-        viewGuiController.refreshGameBackground(board.getBoardMatrix());
+        engine.newGame();
+        if (history != null) {
+            history.clear();
+        }
+        record();
+        viewGuiController.refreshGameBackground(board.getBoardMatrixView());
+    }
+
+    private void record() {
+        if (history != null) {
+            history.record(board.snapshot());
+        }
+    }
+
+    /**
+     * Checks whether this game records history and can be rewound.
+     * 
+     * @return true for practice games
+     */
+    public boolean isPractice() {
+        return history != null;
+    }
+
+    /**
+     * Checks whether the game has ended.
+     * 
+     * @return true once a brick spawned overlapping the stack, until the game is rewound
+     *         or restarted
+     */
+    public boolean isGameOver() {
+        return engine.isGameOver();
     }
 
     /**
@@ -191,7 +267,7 @@ public class GameController implements InputEventListener {
      * @return the PowerUpManager managing power-up inventory and purchases
      */
     public model.PowerUpManager getPowerUpManager() {
-        return ((SimpleBoard) board).getPowerUpManager();
+        return board.getPowerUpManager();
     }
 
     /**
@@ -210,7 +286,7 @@ public class GameController implements InputEventListener {
      * @return true if purchase was successful, false if insufficient skill points
      */
     public boolean purchasePowerUp(PowerUp powerUp) {
-        return getPowerUpManager().purchasePowerUp(powerUp);
+        return engine.purchasePowerUp(powerUp);
     }
 
     /**
@@ -221,35 +297,25 @@ public class GameController implements InputEventListener {
      * @return true if activation was successful, false if power-up not available
      */
     public boolean activatePowerUp(PowerUp powerUp) {
-        // Check if player has the power-up
-        if (!getPowerUpManager().usePowerUp(powerUp)) {
+        // The engine checks the inventory and applies the board side of the power-up
+        if (!engine.activatePowerUp(powerUp)) {
             return false;
         }
 
         switch (powerUp) {
             case ROW_CLEARER:
-                // Clear bottom 3 rows
-                boolean cleared = ((SimpleBoard) board).clearRowsPowerUp(3);
-                if (cleared) {
-                    // Refresh the game view
-                    viewGuiController.refreshGameBackground(board.getBoardMatrix());
-                    viewGuiController.refreshBrick(board.getViewData());
-                }
-                return cleared;
+                // Refresh the game view
+                viewGuiController.refreshGameBackground(board.getBoardMatrixView());
+                viewGuiController.refreshBrick(board.getViewData());
+                return true;
 
             case SLOW_MOTION:
                 // Slow motion is handled by GuiController.applySlowMotion()
                 viewGuiController.applySlowMotion();
                 return true;
 
-            case BOMB_PIECE:
-                // Mark the next piece as a bomb piece
-                // The bomb will explode when the piece lands
-                ((SimpleBoard) board).setBombPiece(true);
-                return true;
-
             default:
-                return false;
+                return true;
         }
     }
 }
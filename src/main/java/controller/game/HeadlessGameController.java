@@ -0,0 +1,135 @@
+package controller.game;
+
+import model.Board;
+import model.BoardSnapshot;
+import model.DownData;
+import model.GameEngine;
+import model.GameHistory;
+import model.ViewData;
+import view.ClearRow;
+
+/**
+ * Game controller without a GUI.
+ * Implements InputEventListener on top of a {@link GameEngine} like {@link GameController},
+ * but only returns the results instead of pushing them to a view, so bots and tests can
+ * play whole games in a plain JVM. Recording history for rewind costs a snapshot per
+ * locked piece, so it is off unless asked for.
+ *
+ * @author COMP2042 Coursework
+ */
+public class HeadlessGameController implements InputEventListener {
+
+    private final Board board;
+
+    private final GameEngine engine;
+
+    // Null when rewinding is off
+    private final GameHistory history;
+
+    /**
+     * Constructs a new HeadlessGameController that does not record history, and spawns
+     * the first brick. Rewind events are ignored.
+     *
+     * @param board the board implementation to play on
+     */
+    public HeadlessGameController(Board board) {
+        this(board, false);
+    }
+
+    /**
+     * Constructs a new HeadlessGameController and spawns the first brick.
+     *
+     * @param board the board implementation to play on
+     * @param recordHistory whether to snapshot the board after every lock so the game can
+     *                      be rewound
+     */
+    public HeadlessGameController(Board board, boolean recordHistory) {
+        this.board = board;
+        engine = new GameEngine(board);
+        history = recordHistory ? new GameHistory() : null;
+        record();
+    }
+
+    private void record() {
+        if (history != null) {
+            history.record(board.snapshot());
+        }
+    }
+
+    @Override
+    public DownData onDownEvent(MoveEvent event) {
+        ClearRow clearRow = engine.moveDown(event.getEventSource() == EventSource.USER);
+        if (clearRow != null) {
+            record();
+        }
+        return new DownData(clearRow, board.getViewData());
+    }
+
+    @Override
+    public ViewData onLeftEvent(MoveEvent event) {
+        engine.moveLeft();
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onRightEvent(MoveEvent event) {
+        engine.moveRight();
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onRotateEvent(MoveEvent event) {
+        engine.rotateLeft();
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onRotateRightEvent(MoveEvent event) {
+        engine.rotateRight();
+        return board.getViewData();
+    }
+
+    @Override
+    public DownData onHardDropEvent(MoveEvent event) {
+        ClearRow clearRow = engine.hardDrop();
+        board.clearBombEffectFlag();
+        record();
+        return new DownData(clearRow, board.getViewData());
+    }
+
+    @Override
+    public ViewData onHoldEvent(MoveEvent event) {
+        engine.hold();
+        return board.getViewData();
+    }
+
+    @Override
+    public ViewData onRewindEvent(MoveEvent event) {
+        BoardSnapshot snapshot = history != null ? history.rewind(1) : null;
+        if (snapshot != null) {
+            engine.restore(snapshot);
+        }
+        return board.getViewData();
+    }
+
+    @Override
+    public void createNewGame() {
+        engine.newGame();
+        if (history != null) {
+            history.clear();
+        }
+        record();
+    }
+
+    public boolean isGameOver() {
+        return engine.isGameOver();
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public GameEngine getEngine() {
+        return engine;
+    }
+}
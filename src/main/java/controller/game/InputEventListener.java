@@ -45,6 +45,14 @@ public interface InputEventListener {
      */
     ViewData onRotateEvent(MoveEvent event);
 
+    /**
+     * Handles a clockwise rotation event.
+     * 
+     * @param event the move event
+     * @return ViewData containing updated brick rotation
+     */
+    ViewData onRotateRightEvent(MoveEvent event);
+
     /**
      * Handles a hard drop event (instant drop to bottom).
      * 
@@ -61,6 +69,14 @@ public interface InputEventListener {
      */
     ViewData onHoldEvent(MoveEvent event);
 
+    /**
+     * Handles a rewind event (undo the last locked piece).
+     * 
+     * @param event the move event
+     * @return ViewData containing the brick that was falling at the restored point
+     */
+    ViewData onRewindEvent(MoveEvent event);
+
     /**
      * Creates a new game by resetting the board.
      */
@@ -0,0 +1,51 @@
+package controller.gui;
+
+import com.comp2042.logic.bricks.BrickShape;
+import model.ViewData;
+
+/**
+ * Draws the playing field for GuiController: the settled cells, the falling brick, its
+ * ghost, the placement hint and the next and hold previews.
+ * {@link GuiControllerRenderer} builds a node per cell; {@link GuiControllerCanvasRenderer}
+ * paints everything onto canvases. Which one is used is chosen once at startup.
+ *
+ * @author COMP2042 Coursework
+ */
+interface BoardRenderer {
+
+    /**
+     * Sets up the view for a new game and draws its first frame.
+     *
+     * @param boardMatrix the settled cells, including the two hidden rows at the top
+     * @param brick the falling brick
+     */
+    void initGameView(int[][] boardMatrix, ViewData brick);
+
+    /**
+     * Redraws the falling brick, its ghost and the previews. Does nothing while paused.
+     *
+     * @param brick the falling brick
+     */
+    void refreshBrick(ViewData brick);
+
+    /**
+     * Redraws the settled cells.
+     *
+     * @param board the settled cells, including the two hidden rows at the top
+     */
+    void refreshGameBackground(int[][] board);
+
+    /**
+     * Shows the suggested lock position of the falling piece.
+     *
+     * @param shape the shape of the piece in its suggested rotation
+     * @param x the column of the shape matrix origin
+     * @param y the board row of the shape matrix origin
+     */
+    void showHint(BrickShape shape, int x, int y);
+
+    /**
+     * Hides the placement hint, if one is shown.
+     */
+    void hideHint();
+}
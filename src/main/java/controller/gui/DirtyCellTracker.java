@@ -0,0 +1,70 @@
+package controller.gui;
+
+/**
+ * Remembers the colour last painted into each board cell so a redraw only touches the
+ * cells that changed. After a lock that is usually the four cells of the piece, or a few
+ * rows when lines are cleared, instead of every visible cell.
+ * The board rows are recycled by the board as lines clear, so they are compared by value
+ * against a private copy rather than by identity.
+ *
+ * @author COMP2042 Coursework
+ */
+final class DirtyCellTracker {
+
+    /**
+     * Receives the cells whose colour changed since they were last painted.
+     */
+    @FunctionalInterface
+    interface CellPainter {
+        void paint(int row, int column, int color);
+    }
+
+    private final int firstRow;
+    private final int[][] painted;
+    private int lastRepaintCount;
+
+    /**
+     * Creates a tracker for a view whose cells all start out empty.
+     *
+     * @param rows the number of board rows, including hidden ones
+     * @param columns the number of board columns
+     * @param firstRow the first row that is drawn; rows above it are never painted
+     */
+    DirtyCellTracker(int rows, int columns, int firstRow) {
+        this.firstRow = firstRow;
+        this.painted = new int[rows][columns];
+    }
+
+    /**
+     * Paints every drawn cell whose colour differs from what was last painted there.
+     *
+     * @param board the board as it is now
+     * @param painter called once for each changed cell
+     * @return the number of cells repainted
+     */
+    int update(int[][] board, CellPainter painter) {
+        int repainted = 0;
+        int rows = Math.min(board.length, painted.length);
+        for (int i = firstRow; i < rows; i++) {
+            int[] row = board[i];
+            int[] seen = painted[i];
+            int columns = Math.min(row.length, seen.length);
+            for (int j = 0; j < columns; j++) {
+                if (row[j] != seen[j]) {
+                    seen[j] = row[j];
+                    painter.paint(i, j, row[j]);
+                    repainted++;
+                }
+            }
+        }
+        lastRepaintCount = repainted;
+        return repainted;
+    }
+
+    /**
+     * @return the number of cells repainted by the last {@link #update}
+     */
+    int getLastRepaintCount() {
+        return lastRepaintCount;
+    }
+}
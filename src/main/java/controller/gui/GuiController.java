@@ -3,7 +3,7 @@ package controller.gui;
 import javafx.animation.KeyFrame;
 import javafx.animation.Timeline;
 import javafx.beans.property.BooleanProperty;
-import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
 import javafx.beans.property.SimpleBooleanProperty;
 import javafx.application.Platform;
 import javafx.beans.value.ChangeListener;
@@ -31,6 +31,7 @@ import javafx.scene.paint.Color;
 import javafx.scene.shape.Rectangle;
 import javafx.scene.text.Font;
 import javafx.util.Duration;
+import com.comp2042.logic.bricks.BrickShape;
 import controller.game.EventSource;
 import controller.game.EventType;
 import controller.game.GameController;
@@ -38,6 +39,8 @@ import controller.game.InputEventListener;
 import controller.game.MoveEvent;
 import model.DownData;
 import model.PowerUp;
+import model.PowerUpManager;
+import model.Score;
 import model.ViewData;
 import view.GameOverPanel;
 import view.NotificationPanel;
@@ -53,17 +56,25 @@ import java.util.ResourceBundle;
  * the game logic (GameController) and the JavaFX UI. Uses an orchestrator pattern
  * delegating specific responsibilities to specialized manager classes:
  * - KeyboardHandler: Input processing
- * - Renderer: Visual rendering
+ * - Renderer: Visual rendering (node-per-cell, or canvas with -Dtetris.renderer=canvas)
  * - PauseManager: Pause/resume functionality
  * - PowerUpManager: Power-up UI and shop
  * - EffectManager: Visual effects
  * - SlowMotionManager: Slow-motion power-up
  * - VideoManager: Background video
+ * - BotManager: Bot autoplay
+ * - HintManager: Placement hints
  * 
  * @author COMP2042 Coursework
  */
 public class GuiController implements Initializable {
 
+    /**
+     * System property choosing the board renderer: {@code canvas} paints the board onto a
+     * canvas, anything else (or nothing) keeps the default node-per-cell renderer.
+     */
+    public static final String RENDERER_PROPERTY = "tetris.renderer";
+
     private static final int BRICK_SIZE = 22;
 
     @FXML GridPane gamePanel;
@@ -76,6 +87,7 @@ public class GuiController implements Initializable {
     @FXML private Label linesLabel;
     @FXML private Label skillPointsLabel;
     @FXML GridPane nextPanel;
+    @FXML VBox nextQueuePanel;
     @FXML GridPane holdPanel;
     @FXML HBox powerUpsContainer;
     @FXML HBox powerUpsContainerCentered;
@@ -99,6 +111,10 @@ public class GuiController implements Initializable {
     Rectangle[][] rectangles;
     Rectangle[][] shadowRectangles;
     GridPane shadowPanel;
+    GridPane hintPanel;
+    // Ghost, hint and falling brick, laid over gamePanel inside boardStack
+    Pane pieceLayer;
+    Rectangle[][] hintRectangles;
     Timeline timeLine;
     int[][] currentBoardMatrix;
     
@@ -119,22 +135,28 @@ public class GuiController implements Initializable {
     // Helper classes
     private GuiControllerKeyboardHandler keyboardHandler;
     private GuiControllerVideoManager videoManager;
-    private GuiControllerRenderer renderer;
+    private BoardRenderer renderer;
     private GuiControllerPauseManager pauseManager;
     private GuiControllerSlowMotionManager slowMotionManager;
     private GuiControllerEffectManager effectManager;
     private GuiControllerPowerUpManager powerUpManager;
+    private GuiControllerBotManager botManager;
+    private GuiControllerHintManager hintManager;
 
     @Override
     public void initialize(URL location, ResourceBundle resources) {
         // Initialize helper classes
         keyboardHandler = new GuiControllerKeyboardHandler(this);
         videoManager = new GuiControllerVideoManager(this);
-        renderer = new GuiControllerRenderer(this);
+        renderer = "canvas".equalsIgnoreCase(System.getProperty(RENDERER_PROPERTY))
+                ? new GuiControllerCanvasRenderer(this)
+                : new GuiControllerRenderer(this);
         pauseManager = new GuiControllerPauseManager(this);
         slowMotionManager = new GuiControllerSlowMotionManager(this);
         effectManager = new GuiControllerEffectManager(this);
         powerUpManager = new GuiControllerPowerUpManager(this);
+        botManager = new GuiControllerBotManager(this);
+        hintManager = new GuiControllerHintManager(this);
         
         // load font (guarded)
         try {
@@ -248,48 +270,73 @@ public class GuiController implements Initializable {
 
     public void refreshBrick(ViewData brick) {
         renderer.refreshBrick(brick);
+        hintManager.onBrickMoved(brick);
     }
 
     public void refreshGameBackground(int[][] board) {
         renderer.refreshGameBackground(board);
+        hintManager.onPieceChanged();
+    }
+
+    void showHint(BrickShape shape, int x, int y) {
+        renderer.showHint(shape, x, y);
+    }
+
+    void hideHint() {
+        renderer.hideHint();
     }
 
     void moveDown(MoveEvent event) {
         if (isPause.getValue() == Boolean.FALSE) {
-            DownData downData = eventListener.onDownEvent(event);
-            if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-                updateLinesCleared(downData.getClearRow().getLinesRemoved());
-                NotificationPanel notificationPanel = new NotificationPanel("+" + downData.getClearRow().getScoreBonus());
-                groupNotification.getChildren().add(notificationPanel);
-                notificationPanel.showScore(groupNotification.getChildren());
-            }
-            refreshBrick(downData.getViewData());
+            showDownData(eventListener.onDownEvent(event));
         }
         gamePanel.requestFocus();
     }
 
     void hardDrop(MoveEvent event) {
         if (isPause.getValue() == Boolean.FALSE) {
-            DownData downData = eventListener.onHardDropEvent(event);
-            if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
-                updateLinesCleared(downData.getClearRow().getLinesRemoved());
-                NotificationPanel notificationPanel = new NotificationPanel("+" + downData.getClearRow().getScoreBonus());
-                groupNotification.getChildren().add(notificationPanel);
-                notificationPanel.showScore(groupNotification.getChildren());
-            }
             // Hard drop already merged the brick, so we just refresh the background
             // The view data will be for the next brick
-            refreshBrick(downData.getViewData());
+            showDownData(eventListener.onHardDropEvent(event));
         }
         gamePanel.requestFocus();
     }
 
+    /**
+     * Shows the result of a down move or drop: the line clear notification, if any, and
+     * the falling brick.
+     */
+    void showDownData(DownData downData) {
+        if (downData.getClearRow() != null && downData.getClearRow().getLinesRemoved() > 0) {
+            updateLinesCleared(downData.getClearRow().getLinesRemoved());
+            NotificationPanel notificationPanel = new NotificationPanel("+" + downData.getClearRow().getScoreBonus());
+            groupNotification.getChildren().add(notificationPanel);
+            notificationPanel.showScore(groupNotification.getChildren());
+        }
+        refreshBrick(downData.getViewData());
+    }
+
+    /**
+     * Starts or stops the bot playing the current game.
+     */
+    void toggleBot() {
+        botManager.toggle();
+    }
+
+    /**
+     * Turns the placement hint on or off.
+     */
+    void toggleHint() {
+        hintManager.toggle();
+    }
+
     public void setEventListener(InputEventListener eventListener) {
         this.eventListener = eventListener;
     }
 
-    public void bindScore(IntegerProperty integerProperty) {
-        if (integerProperty != null) {
+    public void bindScore(Score score) {
+        if (score != null) {
+            ReadOnlyIntegerProperty integerProperty = IntValuePropertyAdapter.scoreProperty(score);
             Platform.runLater(() -> {
                 if (scoreLabel != null) {
                     scoreLabel.textProperty().bind(integerProperty.asString());
@@ -298,8 +345,9 @@ public class GuiController implements Initializable {
         }
     }
 
-    public void bindSkillPoints(IntegerProperty integerProperty) {
-        if (integerProperty != null) {
+    public void bindSkillPoints(PowerUpManager skillPointsSource) {
+        if (skillPointsSource != null) {
+            ReadOnlyIntegerProperty integerProperty = IntValuePropertyAdapter.skillPointsProperty(skillPointsSource);
             Platform.runLater(() -> {
                 if (skillPointsLabel != null) {
                     skillPointsLabel.textProperty().bind(integerProperty.asString());
@@ -330,6 +378,23 @@ public class GuiController implements Initializable {
         isGameOver.setValue(Boolean.TRUE);
     }
 
+    /**
+     * Takes back the last locked piece in a practice game. Rewinding the piece that
+     * topped out hides the game over panel and resumes play.
+     */
+    public void rewind() {
+        if (gameController == null || !gameController.isPractice()) {
+            return;
+        }
+        ViewData brick = eventListener.onRewindEvent(new MoveEvent(EventType.REWIND, EventSource.USER));
+        if (isGameOver.getValue() == Boolean.TRUE && !gameController.isGameOver()) {
+            gameOverPanel.setVisible(false);
+            isGameOver.setValue(Boolean.FALSE);
+            if (timeLine != null) timeLine.play();
+        }
+        refreshBrick(brick);
+    }
+
     public void newGame(ActionEvent actionEvent) {
         if (timeLine != null) timeLine.stop();
         gameOverPanel.setVisible(false);
@@ -374,6 +439,20 @@ public class GuiController implements Initializable {
 
     @FXML
     private void onStartGame(ActionEvent e) {
+        startGame(false);
+    }
+
+    @FXML
+    private void onStartPractice(ActionEvent e) {
+        startGame(true);
+    }
+
+    /**
+     * Hides the main menu and starts a fresh game.
+     * 
+     * @param practice whether to start a practice game, which can be rewound with R
+     */
+    private void startGame(boolean practice) {
         // Hide main menu
         if (mainMenuOverlay != null) {
             mainMenuOverlay.setVisible(false);
@@ -439,7 +518,7 @@ public class GuiController implements Initializable {
         
         // Create a new game controller (this will reset the board and start fresh)
         // The constructor will call initGameView which properly initializes the display
-        gameController = new GameController(this);
+        gameController = new GameController(this, practice);
         
         // Initialize power-up UI
         powerUpManager.initializePowerUpUI();
@@ -463,6 +542,8 @@ public class GuiController implements Initializable {
     @FXML
     private void onQuit(ActionEvent e) {
         // Return to main menu instead of exiting
+        botManager.stop();
+        hintManager.cancel();
         // Stop the game timeline
         if (timeLine != null) {
             timeLine.stop();
@@ -0,0 +1,111 @@
+package controller.gui;
+
+import controller.bot.BeamSearchBot;
+import controller.bot.BotDriver;
+import controller.bot.WeightsFile;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.application.Platform;
+import javafx.util.Duration;
+import model.Board;
+import model.BoardSnapshot;
+import model.DownData;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Manages bot autoplay for GuiController.
+ * While active, the falling piece is planned by a {@link BeamSearchBot} on a background
+ * thread and the plan is played on the FX thread through the normal input events, so the
+ * game looks exactly as if it were played from the keyboard. Gravity keeps running; a
+ * plan overtaken by it is simply dropped and the piece is planned again. The search has a
+ * pool of its own, so it does not compete with the placement hint for workers.
+ *
+ * @author COMP2042 Coursework
+ */
+class GuiControllerBotManager {
+
+    private static final int BEAM_WIDTH = 64;
+    // Keeps up with 20 pieces per second
+    private static final long PLAN_BUDGET_MS = 40;
+    private static final long STEP_MS = 50;
+
+    private final GuiController guiController;
+    private final BeamSearchBot bot = new BeamSearchBot(BEAM_WIDTH, PLAN_BUDGET_MS,
+            WeightsFile.readOrDefault(WeightsFile.DEFAULT_PATH),
+            new ForkJoinPool(Runtime.getRuntime().availableProcessors()));
+    private final ExecutorService planner = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "bot-planner");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private Timeline botTimeline;
+    private boolean planning = false;
+
+    /**
+     * Constructs a new GuiControllerBotManager.
+     *
+     * @param guiController the GuiController instance to play for
+     */
+    GuiControllerBotManager(GuiController guiController) {
+        this.guiController = guiController;
+    }
+
+    boolean isActive() {
+        return botTimeline != null;
+    }
+
+    /**
+     * Starts autoplay, or stops it if it is running.
+     */
+    void toggle() {
+        if (isActive()) {
+            stop();
+        } else {
+            botTimeline = new Timeline(new KeyFrame(Duration.millis(STEP_MS), e -> step()));
+            botTimeline.setCycleCount(Timeline.INDEFINITE);
+            botTimeline.play();
+        }
+    }
+
+    void stop() {
+        if (botTimeline != null) {
+            botTimeline.stop();
+            botTimeline = null;
+        }
+    }
+
+    private boolean canPlay() {
+        return guiController.gameController != null
+                && guiController.isPause.getValue() == Boolean.FALSE
+                && guiController.isGameOver.getValue() == Boolean.FALSE;
+    }
+
+    private void step() {
+        if (planning || !canPlay()) {
+            return;
+        }
+        Board board = guiController.gameController.getBoard();
+        BotDriver driver = new BotDriver(guiController.eventListener, board, bot);
+        driver.setViewListener(guiController::refreshBrick);
+        // Snapshot on the FX thread, which owns the board; plan on the background thread
+        BoardSnapshot snapshot = board.snapshot();
+        planning = true;
+        planner.execute(() -> {
+            BeamSearchBot.Plan plan = bot.plan(snapshot);
+            Platform.runLater(() -> {
+                planning = false;
+                // The game may have been paused, lost or restarted while planning
+                if (!isActive() || !canPlay() || guiController.gameController.getBoard() != board) {
+                    return;
+                }
+                DownData downData = driver.play(plan);
+                if (downData != null) {
+                    guiController.showDownData(downData);
+                }
+            });
+        });
+    }
+}
@@ -0,0 +1,302 @@
+package controller.gui;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.Glow;
+import javafx.scene.image.Image;
+import javafx.scene.layout.Region;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.shape.StrokeType;
+import com.comp2042.logic.bricks.BrickShape;
+import model.Board;
+import model.ViewData;
+
+import java.util.List;
+
+/**
+ * Canvas-based alternative to {@link GuiControllerRenderer}.
+ * The board, falling brick, ghost and placement hint are painted onto one {@link Canvas}
+ * inside the game panel, and the next, queue and hold previews onto one small canvas each,
+ * so the scene graph holds four nodes instead of a few hundred rectangles. Every cell is drawn
+ * by copying a tile image that is rendered once, with the glow already applied, so no
+ * effect is evaluated while the game runs.
+ *
+ * @author COMP2042 Coursework
+ */
+class GuiControllerCanvasRenderer implements BoardRenderer {
+
+    private static final int BRICK_SIZE = 22;
+    private static final int GAP = 1;
+    private static final int PITCH = BRICK_SIZE + GAP;
+    private static final int HIDDEN_ROWS = 2;
+    private static final int PREVIEW_CELLS = 4;
+    // Bricks after the next one are shown smaller, trimmed to the two rows a spawn shape uses
+    private static final int QUEUE_SLOTS = 4;
+    private static final int QUEUE_CELL_SIZE = 12;
+    private static final int QUEUE_PITCH = QUEUE_CELL_SIZE + GAP;
+    private static final int QUEUE_ROWS = 2;
+    private static final int QUEUE_SPACING = 6;
+    // Colour ids 0 to GARBAGE_CELL, then one tile for anything unknown
+    private static final int UNKNOWN_TILE = Board.GARBAGE_CELL + 1;
+
+    private final GuiController guiController;
+    private final Image[] tiles = new Image[UNKNOWN_TILE + 1];
+    private final Image ghostTile;
+    private final Image hintTile;
+    private final Image emptyPreviewTile;
+
+    private Canvas boardCanvas;
+    private Canvas nextCanvas;
+    private Canvas holdCanvas;
+    private Canvas queueCanvas;
+    private ViewData brick;
+    private BrickShape hintShape;
+    private int hintX;
+    private int hintY;
+    // The shapes the previews show, so they are only redrawn when the piece changes
+    private BrickShape shownNext;
+    private BrickShape shownHold;
+    private boolean holdDrawn;
+    private final BrickShape[] shownQueue = new BrickShape[QUEUE_SLOTS];
+    private boolean queueDrawn;
+
+    /**
+     * Constructs a new GuiControllerCanvasRenderer and renders its tiles.
+     * Must be called on the FX thread.
+     *
+     * @param guiController the GuiController instance to render for
+     */
+    GuiControllerCanvasRenderer(GuiController guiController) {
+        this.guiController = guiController;
+        for (int color = 1; color < tiles.length; color++) {
+            Rectangle cell = new Rectangle(BRICK_SIZE, BRICK_SIZE,
+                    GuiControllerRenderer.getFillColor(color == UNKNOWN_TILE ? -1 : color));
+            cell.setEffect(new Glow(0.6));
+            tiles[color] = renderTile(cell);
+        }
+        ghostTile = renderTile(outlinedTile(Color.DARKGRAY, 0.7, Color.BLACK));
+        hintTile = renderTile(outlinedTile(Color.DARKGRAY, 0.5, Color.LIMEGREEN));
+        Rectangle empty = new Rectangle(BRICK_SIZE, BRICK_SIZE, Color.TRANSPARENT);
+        empty.setStroke(Color.rgb(255, 255, 255, 0.1));
+        empty.setStrokeWidth(0.5);
+        empty.setStrokeType(StrokeType.INSIDE);
+        emptyPreviewTile = renderTile(empty);
+    }
+
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData brick) {
+        guiController.currentBoardMatrix = boardMatrix;
+        this.brick = brick;
+
+        int cols = boardMatrix[0].length;
+        int rowsVisible = boardMatrix.length - HIDDEN_ROWS;
+        boardCanvas = new Canvas(cols * PITCH - GAP, rowsVisible * PITCH - GAP);
+        boardCanvas.setMouseTransparent(true);
+        guiController.gamePanel.getChildren().setAll(boardCanvas);
+        // Same footprint as the rectangle grid, so the board is laid out identically
+        double w = boardCanvas.getWidth() + 2;
+        double h = boardCanvas.getHeight() + 4;
+        guiController.gamePanel.setPrefSize(w, h);
+        guiController.gamePanel.setMinSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
+        guiController.gamePanel.setMaxSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
+
+        nextCanvas = new Canvas(PREVIEW_CELLS * PITCH - GAP, PREVIEW_CELLS * PITCH - GAP);
+        guiController.nextPanel.getChildren().setAll(nextCanvas);
+        holdCanvas = new Canvas(PREVIEW_CELLS * PITCH - GAP, PREVIEW_CELLS * PITCH - GAP);
+        guiController.holdPanel.getChildren().setAll(holdCanvas);
+        shownNext = null;
+        shownHold = null;
+        holdDrawn = false;
+        if (guiController.nextQueuePanel != null) {
+            int slotHeight = QUEUE_ROWS * QUEUE_PITCH - GAP;
+            queueCanvas = new Canvas(PREVIEW_CELLS * QUEUE_PITCH - GAP,
+                    QUEUE_SLOTS * (slotHeight + QUEUE_SPACING) - QUEUE_SPACING);
+            guiController.nextQueuePanel.getChildren().setAll(queueCanvas);
+        }
+        queueDrawn = false;
+
+        // The brick and its ghost are painted onto the board canvas instead
+        guiController.brickPanel.setVisible(false);
+        if (guiController.shadowPanel != null) {
+            guiController.shadowPanel.setVisible(false);
+        }
+
+        drawBoard();
+        drawPreviews();
+    }
+
+    @Override
+    public void refreshBrick(ViewData brick) {
+        if (guiController.isPause.getValue() == Boolean.FALSE) {
+            this.brick = brick;
+            drawBoard();
+            drawPreviews();
+        }
+    }
+
+    @Override
+    public void refreshGameBackground(int[][] board) {
+        guiController.currentBoardMatrix = board;
+        drawBoard();
+    }
+
+    @Override
+    public void showHint(BrickShape shape, int x, int y) {
+        hintShape = shape;
+        hintX = x;
+        hintY = y;
+        drawBoard();
+    }
+
+    @Override
+    public void hideHint() {
+        if (hintShape != null) {
+            hintShape = null;
+            drawBoard();
+        }
+    }
+
+    private void drawBoard() {
+        int[][] board = guiController.currentBoardMatrix;
+        if (boardCanvas == null || board == null) {
+            return;
+        }
+        GraphicsContext gc = boardCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, boardCanvas.getWidth(), boardCanvas.getHeight());
+        for (int i = HIDDEN_ROWS; i < board.length; i++) {
+            for (int j = 0; j < board[i].length; j++) {
+                if (board[i][j] != 0) {
+                    drawTile(gc, tileFor(board[i][j]), j, i - HIDDEN_ROWS);
+                }
+            }
+        }
+        if (brick == null) {
+            return;
+        }
+        BrickShape shape = brick.getBrickShape();
+        // Ghost and hint go under the falling brick; cells in the hidden rows fall off the canvas
+        if (brick.getLandingRow() > brick.getyPosition()) {
+            drawShape(gc, shape, ghostTile, brick.getxPosition(), brick.getLandingRow() - HIDDEN_ROWS);
+        }
+        if (hintShape != null) {
+            drawShape(gc, hintShape, hintTile, hintX, hintY - HIDDEN_ROWS);
+        }
+        drawShape(gc, shape, null, brick.getxPosition(), brick.getyPosition() - HIDDEN_ROWS);
+    }
+
+    private void drawPreviews() {
+        if (brick == null) {
+            return;
+        }
+        BrickShape next = brick.getNextBrickShape();
+        if (next != null && next.getRows() > 0 && next != shownNext) {
+            GraphicsContext gc = nextCanvas.getGraphicsContext2D();
+            gc.clearRect(0, 0, nextCanvas.getWidth(), nextCanvas.getHeight());
+            drawShape(gc, next, null, 0, 0);
+            shownNext = next;
+        }
+        drawQueue(brick.getNextBrickShapes());
+        BrickShape hold = brick.getHeldBrickShape();
+        if (hold != null && hold.getRows() == 0) {
+            hold = null;
+        }
+        if (holdDrawn && hold == shownHold) {
+            return;
+        }
+        shownHold = hold;
+        holdDrawn = true;
+        GraphicsContext gc = holdCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, holdCanvas.getWidth(), holdCanvas.getHeight());
+        if (hold == null) {
+            for (int i = 0; i < PREVIEW_CELLS; i++) {
+                for (int j = 0; j < PREVIEW_CELLS; j++) {
+                    drawTile(gc, emptyPreviewTile, j, i);
+                }
+            }
+        } else {
+            drawShape(gc, hold, null, 0, 0);
+        }
+    }
+
+    /**
+     * Draws the bricks after the next one, but only when one of them changed.
+     */
+    private void drawQueue(List<BrickShape> upcoming) {
+        if (queueCanvas == null) {
+            return;
+        }
+        boolean hasQueue = upcoming.size() > 1;
+        guiController.nextQueuePanel.setVisible(hasQueue);
+        guiController.nextQueuePanel.setManaged(hasQueue);
+        boolean changed = !queueDrawn;
+        for (int slot = 0; slot < QUEUE_SLOTS; slot++) {
+            BrickShape shape = slot + 1 < upcoming.size() ? upcoming.get(slot + 1) : null;
+            changed |= shape != shownQueue[slot];
+            shownQueue[slot] = shape;
+        }
+        if (!changed) {
+            return;
+        }
+        queueDrawn = true;
+        GraphicsContext gc = queueCanvas.getGraphicsContext2D();
+        gc.clearRect(0, 0, queueCanvas.getWidth(), queueCanvas.getHeight());
+        int slotHeight = QUEUE_ROWS * QUEUE_PITCH - GAP + QUEUE_SPACING;
+        for (int slot = 0; slot < QUEUE_SLOTS; slot++) {
+            BrickShape shape = shownQueue[slot];
+            if (shape == null) {
+                continue;
+            }
+            for (int i = 0; i < QUEUE_ROWS; i++) {
+                int row = shape.getMinRow() + i;
+                for (int j = 0; j < PREVIEW_CELLS && row < shape.getRows(); j++) {
+                    int color = j < shape.getColumns() ? shape.getCell(row, j) : 0;
+                    if (color != 0) {
+                        gc.drawImage(tileFor(color), j * QUEUE_PITCH, slot * slotHeight + i * QUEUE_PITCH,
+                                QUEUE_CELL_SIZE, QUEUE_CELL_SIZE);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws the filled cells of a shape, each with the given tile or, if that is null, with
+     * the tile of the cell's own colour.
+     */
+    private void drawShape(GraphicsContext gc, BrickShape shape, Image tile, int column, int row) {
+        for (int i = 0; i < shape.getRows(); i++) {
+            for (int j = 0; j < shape.getColumns(); j++) {
+                int color = shape.getCell(i, j);
+                if (color != 0) {
+                    drawTile(gc, tile != null ? tile : tileFor(color), column + j, row + i);
+                }
+            }
+        }
+    }
+
+    private static void drawTile(GraphicsContext gc, Image tile, int column, int row) {
+        gc.drawImage(tile, column * PITCH, row * PITCH);
+    }
+
+    private Image tileFor(int color) {
+        return color > 0 && color < UNKNOWN_TILE ? tiles[color] : tiles[UNKNOWN_TILE];
+    }
+
+    private static Rectangle outlinedTile(Color fill, double opacity, Color stroke) {
+        // Opacity is folded into the colours, which a snapshot always keeps
+        Rectangle cell = new Rectangle(BRICK_SIZE, BRICK_SIZE, fill.deriveColor(0, 1, 1, opacity));
+        cell.setStroke(stroke.deriveColor(0, 1, 1, opacity));
+        cell.setStrokeWidth(1.5);
+        // Keeps the stroke within the cell so every tile is exactly BRICK_SIZE square
+        cell.setStrokeType(StrokeType.INSIDE);
+        return cell;
+    }
+
+    private static Image renderTile(Rectangle cell) {
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        return cell.snapshot(parameters, null);
+    }
+}
@@ -0,0 +1,178 @@
+package controller.gui;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
+import controller.bot.BeamSearchBot;
+import controller.bot.WeightsFile;
+import javafx.application.Platform;
+import model.Board;
+import model.BoardSnapshot;
+import model.PieceState;
+import model.ViewData;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Manages the placement hint for GuiController.
+ * While hints are on, the best lock position for the falling piece is searched by a
+ * {@link BeamSearchBot} on a single virtual thread, against a snapshot taken when the
+ * piece spawned or was last moved by the player. The FX thread only takes the snapshot and
+ * posts it as the latest request, so key handling never waits for a search. Moving,
+ * rotating or holding the piece cancels the running search and posts a new request;
+ * gravity does not, since falling does not change where the piece should go. Requests are
+ * never queued behind each other: the search thread always takes the latest one, so a
+ * burst of key repeats costs one search, not one per key. The search runs on its own
+ * pool, so it does not compete with the autoplay bot for workers. A result is only drawn
+ * if it answers the latest request and the piece is still in the rotation and column it
+ * was searched from.
+ *
+ * @author COMP2042 Coursework
+ */
+class GuiControllerHintManager {
+
+    private static final int BEAM_WIDTH = 32;
+    private static final long SEARCH_BUDGET_MS = 100;
+
+    private final GuiController guiController;
+    private final BeamSearchBot bot = new BeamSearchBot(BEAM_WIDTH, SEARCH_BUDGET_MS,
+            WeightsFile.readOrDefault(WeightsFile.DEFAULT_PATH),
+            new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2)));
+    private final ExecutorService searcher = Executors.newSingleThreadExecutor(
+            Thread.ofVirtual().name("hint-search").factory());
+    // The newest search request; older ones are cancelled when it is replaced
+    private final AtomicReference<Request> latest = new AtomicReference<>();
+    // Set while a call to searchLatest is queued, so key repeats do not pile up calls
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private boolean enabled = false;
+    // The piece as it was when the latest search was requested
+    private BrickShape searchedShape;
+    private int searchedX;
+
+    /**
+     * Constructs a new GuiControllerHintManager.
+     *
+     * @param guiController the GuiController instance to show hints for
+     */
+    GuiControllerHintManager(GuiController guiController) {
+        this.guiController = guiController;
+    }
+
+    /**
+     * Turns hints on or off.
+     */
+    void toggle() {
+        enabled = !enabled;
+        if (enabled) {
+            restart();
+        } else {
+            cancel();
+        }
+    }
+
+    /**
+     * Called whenever the falling brick is redrawn. Starts a new search if the player moved
+     * the piece sideways, rotated it or swapped it with the hold slot.
+     *
+     * @param view the brick as it is now
+     */
+    void onBrickMoved(ViewData view) {
+        if (enabled && (view.getBrickShape() != searchedShape || view.getxPosition() != searchedX)) {
+            restart();
+        }
+    }
+
+    /**
+     * Called when the settled cells change, i.e. a piece locked or the game was rewound or
+     * restarted. The falling piece is a new one, so a new search is started.
+     */
+    void onPieceChanged() {
+        if (enabled) {
+            restart();
+        }
+    }
+
+    /**
+     * Abandons the running search and hides the hint.
+     */
+    void cancel() {
+        Request previous = latest.getAndSet(null);
+        if (previous != null) {
+            previous.cancelled = true;
+        }
+        searchedShape = null;
+        guiController.hideHint();
+    }
+
+    private void restart() {
+        cancel();
+        if (guiController.gameController == null || guiController.isGameOver.getValue() == Boolean.TRUE) {
+            return;
+        }
+        Board board = guiController.gameController.getBoard();
+        ViewData view = board.getViewData();
+        searchedShape = view.getBrickShape();
+        searchedX = view.getxPosition();
+        // Snapshots share rows with the board, so taking one here is cheap
+        latest.set(new Request(board.snapshot()));
+        if (scheduled.compareAndSet(false, true)) {
+            searcher.execute(this::searchLatest);
+        }
+    }
+
+    /**
+     * Runs on the search thread and serves whichever request is the latest by then, so
+     * requests replaced while waiting are never searched.
+     */
+    private void searchLatest() {
+        scheduled.set(false);
+        Request request = latest.get();
+        if (request == null || request.cancelled || request.started) {
+            return;
+        }
+        request.started = true;
+        BeamSearchBot.Plan plan = bot.plan(request.snapshot, () -> request.cancelled);
+        if (plan != null && !request.cancelled) {
+            Platform.runLater(() -> publish(request, plan));
+        }
+    }
+
+    private void publish(Request request, BeamSearchBot.Plan plan) {
+        BoardSnapshot snapshot = request.snapshot;
+        if (!enabled || latest.get() != request || guiController.gameController == null) {
+            return; // Superseded while the result was on its way
+        }
+        int now = guiController.gameController.getBoard().getPieceState();
+        int start = plan.getStartState();
+        if (PieceState.typeId(now) != PieceState.typeId(start) || PieceState.rotation(now) != PieceState.rotation(start)
+                || PieceState.x(now) != PieceState.x(start)) {
+            return;
+        }
+        Brick piece = snapshot.getCurrentBrick();
+        if (plan.usesHold()) {
+            piece = snapshot.getHeldBrick() != null ? snapshot.getHeldBrick() : snapshot.getPreviewBrick(0);
+        }
+        int state = plan.getPlacementState();
+        List<BrickShape> shapes = piece.getShapes();
+        guiController.showHint(shapes.get(PieceState.rotation(state) % shapes.size()), PieceState.x(state),
+                PieceState.y(state));
+    }
+
+    /**
+     * A snapshot to search, with its own cancellation flag.
+     */
+    private static final class Request {
+        private final BoardSnapshot snapshot;
+        private volatile boolean cancelled = false;
+        // Only touched by the search thread
+        private boolean started = false;
+
+        Request(BoardSnapshot snapshot) {
+            this.snapshot = snapshot;
+        }
+    }
+}
@@ -11,7 +11,7 @@ import model.PowerUp;
 /**
  * Handles keyboard input for GuiController.
  * Processes keyboard events for game controls including movement (arrow keys/WASD),
- * rotation, hard drop (space), hold (C), power-up activation (1-3), pause/resume
+ * rotation (Up/W/Z counter-clockwise, X clockwise), hard drop (space), hold (C), rewind (R), power-up activation (1-3), pause/resume
  * (ESC/P), and shop toggle (B). Extracted from GuiController to apply Single
  * Responsibility Principle.
  * 
@@ -50,10 +50,14 @@ class GuiControllerKeyboardHandler {
                         guiController.refreshBrick(guiController.eventListener.onRightEvent(new MoveEvent(EventType.RIGHT, EventSource.USER)));
                         keyEvent.consume();
                     }
-                    if (keyEvent.getCode() == KeyCode.UP || keyEvent.getCode() == KeyCode.W) {
+                    if (keyEvent.getCode() == KeyCode.UP || keyEvent.getCode() == KeyCode.W || keyEvent.getCode() == KeyCode.Z) {
                         guiController.refreshBrick(guiController.eventListener.onRotateEvent(new MoveEvent(EventType.ROTATE, EventSource.USER)));
                         keyEvent.consume();
                     }
+                    if (keyEvent.getCode() == KeyCode.X) {
+                        guiController.refreshBrick(guiController.eventListener.onRotateRightEvent(new MoveEvent(EventType.ROTATE_RIGHT, EventSource.USER)));
+                        keyEvent.consume();
+                    }
                     if (keyEvent.getCode() == KeyCode.DOWN || keyEvent.getCode() == KeyCode.S) {
                         guiController.moveDown(new MoveEvent(EventType.DOWN, EventSource.USER));
                         keyEvent.consume();
@@ -66,7 +70,6 @@ class GuiControllerKeyboardHandler {
                         guiController.refreshBrick(guiController.eventListener.onHoldEvent(new MoveEvent(EventType.HOLD, EventSource.USER)));
                         keyEvent.consume();
                     }
-                    
                     // Power-up shortcuts: 1, 2, 3 to use power-ups
                     if (keyEvent.getCode() == KeyCode.DIGIT1 || keyEvent.getCode() == KeyCode.NUMPAD1) {
                         if (guiController.gameController != null) {
@@ -75,7 +78,7 @@ class GuiControllerKeyboardHandler {
                                 guiController.gameController.activatePowerUp(powerUps[0]); // Row Clearer
                                 guiController.updatePowerUpUI();
                                 if (powerUps[0] == PowerUp.ROW_CLEARER) {
-                                    guiController.refreshGameBackground(guiController.gameController.getBoard().getBoardMatrix());
+                                    guiController.refreshGameBackground(guiController.gameController.getBoard().getBoardMatrixView());
                                 }
                             }
                         }
@@ -137,6 +140,12 @@ class GuiControllerKeyboardHandler {
                     }
                 }
                 
+                if (keyEvent.getCode() == KeyCode.R && guiController.isPause.getValue() == Boolean.FALSE) {
+                    // Undo the last locked piece in practice games, also from the game over
+                    // screen; key repeat scrubs further back
+                    guiController.rewind();
+                    keyEvent.consume();
+                }
                 if (keyEvent.getCode() == KeyCode.N) {
                     guiController.newGame(null);
                 }
@@ -150,6 +159,16 @@ class GuiControllerKeyboardHandler {
                         keyEvent.consume();
                     }
                 }
+                if (keyEvent.getCode() == KeyCode.H) {
+                    // Placement hint on/off; the search runs off the FX thread
+                    guiController.toggleHint();
+                    keyEvent.consume();
+                }
+                if (keyEvent.getCode() == KeyCode.K) {
+                    // Bot autoplay on/off
+                    guiController.toggleBot();
+                    keyEvent.consume();
+                }
                 if (keyEvent.getCode() == KeyCode.B) {
                     guiController.togglePowerUpsOverlay();
                     keyEvent.consume();
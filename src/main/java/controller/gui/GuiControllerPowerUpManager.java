@@ -119,7 +119,7 @@ class GuiControllerPowerUpManager {
                     guiController.gameController.activatePowerUp(powerUp);
                     updatePowerUpUI();
                     if (powerUp == PowerUp.ROW_CLEARER) {
-                        guiController.refreshGameBackground(guiController.gameController.getBoard().getBoardMatrix());
+                        guiController.refreshGameBackground(guiController.gameController.getBoard().getBoardMatrixView());
                     }
                 } else {
                     // Buy power-up
@@ -1,28 +1,67 @@
 package controller.gui;
 
-import javafx.geometry.Point2D;
+import javafx.scene.CacheHint;
+import javafx.scene.Node;
+import javafx.scene.effect.Glow;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.Region;
 import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 import javafx.scene.shape.Rectangle;
-import model.MatrixOperations;
+import com.comp2042.logic.bricks.BrickShape;
+import model.Board;
 import model.ViewData;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * Handles rendering logic for GuiController.
  * Manages all visual rendering including the game board, current brick, next piece
- * preview, hold piece preview, ghost piece projection, and board centering calculations.
+ * preview, hold piece preview, ghost piece projection, placement hint, and board centering
+ * calculations.
+ * The board is drawn in layers inside the board stack: the settled cells, cached as a
+ * bitmap, and above them the ghost, hint and falling brick, which move by translation.
  * Extracted from GuiController to apply Single Responsibility Principle.
  * 
  * @author COMP2042 Coursework
  */
-class GuiControllerRenderer {
+class GuiControllerRenderer implements BoardRenderer {
     
     private static final int BRICK_SIZE = 22;
+    private static final int PREVIEW_CELLS = 4;
+    // Bricks after the next one are shown smaller, trimmed to the two rows a spawn shape uses
+    private static final int QUEUE_SLOTS = 4;
+    private static final int QUEUE_CELL_SIZE = 12;
+    private static final int QUEUE_ROWS = 2;
+    private static final Paint EMPTY_PREVIEW_STROKE = Color.rgb(255, 255, 255, 0.1);
+    // Indexed by colour id. Effects keep no per-node state, so one Glow serves every cell
+    private static final Paint[] FILLS = new Paint[Board.GARBAGE_CELL + 1];
+    private static final Glow CELL_GLOW = new Glow(0.6);
+
+    static {
+        FILLS[0] = Color.TRANSPARENT;
+        FILLS[1] = Color.AQUA;
+        FILLS[2] = Color.BLUEVIOLET;
+        FILLS[3] = Color.DARKGREEN;
+        FILLS[4] = Color.YELLOW;
+        FILLS[5] = Color.RED;
+        FILLS[6] = Color.BEIGE;
+        FILLS[7] = Color.BURLYWOOD;
+        FILLS[Board.GARBAGE_CELL] = Color.GRAY;
+    }
     
     private final GuiController guiController;
+    private DirtyCellTracker renderedCells;
+    // The shapes the previews show, so they are only redrawn when the piece changes
+    private BrickShape shownNext;
+    private BrickShape shownHold;
+    // The shapes the falling brick and ghost panels are coloured for
+    private BrickShape shownBrickShape;
+    private BrickShape shownShadowShape;
+    private Rectangle[][][] queueCells;
+    private final BrickShape[] shownQueue = new BrickShape[QUEUE_SLOTS];
     
     /**
      * Constructs a new GuiControllerRenderer.
@@ -40,9 +79,11 @@ class GuiControllerRenderer {
      * @param boardMatrix the 2D array representing the game board
      * @param brick the current brick's view data
      */
-    void initGameView(int[][] boardMatrix, ViewData brick) {
+    @Override
+    public void initGameView(int[][] boardMatrix, ViewData brick) {
         guiController.currentBoardMatrix = boardMatrix;
         guiController.displayMatrix = new Rectangle[boardMatrix.length][boardMatrix[0].length];
+        renderedCells = new DirtyCellTracker(boardMatrix.length, boardMatrix[0].length, 2);
         for (int i = 2; i < boardMatrix.length; i++) {
             for (int j = 0; j < boardMatrix[i].length; j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
@@ -60,27 +101,33 @@ class GuiControllerRenderer {
         guiController.gamePanel.setPrefSize(w, h);
         guiController.gamePanel.setMinSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
         guiController.gamePanel.setMaxSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
+        // Settled cells only change when a piece locks, so they are kept as a bitmap in between
+        guiController.gamePanel.setCache(true);
+        guiController.gamePanel.setCacheHint(CacheHint.QUALITY);
 
-        guiController.rectangles = new Rectangle[brick.getBrickData().length][brick.getBrickData()[0].length];
-        for (int i = 0; i < brick.getBrickData().length; i++) {
-            for (int j = 0; j < brick.getBrickData()[i].length; j++) {
+        // Shapes are shared and immutable, so cells are read directly instead of copying the matrix
+        BrickShape brickShape = brick.getBrickShape();
+        guiController.rectangles = new Rectangle[brickShape.getRows()][brickShape.getColumns()];
+        for (int i = 0; i < brickShape.getRows(); i++) {
+            for (int j = 0; j < brickShape.getColumns(); j++) {
                 Rectangle rectangle = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                setRectangleData(brick.getBrickData()[i][j], rectangle);
+                setRectangleData(brickShape.getCell(i, j), rectangle);
                 guiController.rectangles[i][j] = rectangle;
                 guiController.brickPanel.add(rectangle, j, i);
             }
         }
+        shownBrickShape = brickShape;
 
         // Create shadow panel for ghost preview
         guiController.shadowPanel = new GridPane();
         guiController.shadowPanel.setHgap(guiController.brickPanel.getHgap());
         guiController.shadowPanel.setVgap(guiController.brickPanel.getVgap());
         guiController.shadowPanel.setMouseTransparent(true); // Don't block mouse events
-        int[][] brickData = brick.getBrickData();
-        if (brickData != null && brickData.length > 0 && brickData[0].length > 0) {
-            guiController.shadowRectangles = new Rectangle[brickData.length][brickData[0].length];
-            for (int i = 0; i < brickData.length; i++) {
-                for (int j = 0; j < brickData[i].length; j++) {
+        shownShadowShape = null;
+        if (brickShape.getRows() > 0 && brickShape.getColumns() > 0) {
+            guiController.shadowRectangles = new Rectangle[brickShape.getRows()][brickShape.getColumns()];
+            for (int i = 0; i < brickShape.getRows(); i++) {
+                for (int j = 0; j < brickShape.getColumns(); j++) {
                     Rectangle shadowRect = new Rectangle(BRICK_SIZE, BRICK_SIZE);
                     shadowRect.setFill(Color.GRAY);
                     shadowRect.setOpacity(0.55);
@@ -91,97 +138,57 @@ class GuiControllerRenderer {
                 }
             }
         }
-        // Add shadow panel to the same parent as brickPanel
-        Pane root = (Pane) guiController.gameBoard.getParent();
-        if (root != null && !root.getChildren().contains(guiController.shadowPanel)) {
-            root.getChildren().add(guiController.shadowPanel);
-        }
+        restackPieceLayer(w, h);
+        placeOnBoard(guiController.brickPanel, brick.getxPosition(), brick.getyPosition());
 
-        Point2D origin = gamePanelOriginInRoot();
-        guiController.brickPanel.setLayoutX(origin.getX() + brick.getxPosition() * guiController.brickPanel.getVgap() + brick.getxPosition() * BRICK_SIZE);
-        int displayRow = brick.getyPosition() - 2;
-        guiController.brickPanel.setLayoutY(origin.getY() + displayRow * (guiController.brickPanel.getHgap() + BRICK_SIZE));
-
-        renderNextPreview(brick.getNextBrickData());
-        renderHoldPreview(brick.getHeldBrickData());
+        renderNextPreview(brick.getNextBrickShape());
+        renderNextQueue(brick.getNextBrickShapes());
+        renderHoldPreview(brick.getHeldBrickShape());
         updateShadow(brick);
     }
     
-    void refreshBrick(ViewData brick) {
+    @Override
+    public void refreshBrick(ViewData brick) {
         if (guiController.isPause.getValue() == Boolean.FALSE) {
-            Point2D origin = gamePanelOriginInRoot();
-            guiController.brickPanel.setLayoutX(origin.getX() + brick.getxPosition() * guiController.brickPanel.getVgap() + brick.getxPosition() * BRICK_SIZE);
-            int displayRow = brick.getyPosition() - 2;
-            guiController.brickPanel.setLayoutY(origin.getY() + displayRow * (guiController.brickPanel.getHgap() + BRICK_SIZE));
-            for (int i = 0; i < brick.getBrickData().length; i++) {
-                for (int j = 0; j < brick.getBrickData()[i].length; j++) {
-                    setRectangleData(brick.getBrickData()[i][j], guiController.rectangles[i][j]);
+            placeOnBoard(guiController.brickPanel, brick.getxPosition(), brick.getyPosition());
+            // Moving only changes the translation; cells are recoloured when the shape changes
+            BrickShape brickShape = brick.getBrickShape();
+            if (brickShape != shownBrickShape) {
+                for (int i = 0; i < brickShape.getRows(); i++) {
+                    for (int j = 0; j < brickShape.getColumns(); j++) {
+                        setRectangleData(brickShape.getCell(i, j), guiController.rectangles[i][j]);
+                    }
                 }
+                shownBrickShape = brickShape;
             }
-            renderNextPreview(brick.getNextBrickData());
-            renderHoldPreview(brick.getHeldBrickData());
+            renderNextPreview(brick.getNextBrickShape());
+            renderNextQueue(brick.getNextBrickShapes());
+            renderHoldPreview(brick.getHeldBrickShape());
             updateShadow(brick);
         }
     }
 
-    void refreshGameBackground(int[][] board) {
+    @Override
+    public void refreshGameBackground(int[][] board) {
         guiController.currentBoardMatrix = board;
-        for (int i = 2; i < board.length && i < guiController.displayMatrix.length; i++) {
-            for (int j = 0; j < board[i].length && j < guiController.displayMatrix[i].length; j++) {
-                if (guiController.displayMatrix[i][j] != null) {
-                    setRectangleData(board[i][j], guiController.displayMatrix[i][j]);
-                }
+        // Only cells whose colour changed are touched; the rest keep their fill and glow
+        renderedCells.update(board, (row, column, color) -> {
+            Rectangle rectangle = guiController.displayMatrix[row][column];
+            if (rectangle != null) {
+                setRectangleData(color, rectangle);
             }
-        }
+        });
     }
 
-    private Paint getFillColor(int i) {
-        switch (i) {
-            case 0: return Color.TRANSPARENT;
-            case 1: return Color.AQUA;
-            case 2: return Color.BLUEVIOLET;
-            case 3: return Color.DARKGREEN;
-            case 4: return Color.YELLOW;
-            case 5: return Color.RED;
-            case 6: return Color.BEIGE;
-            case 7: return Color.BURLYWOOD;
-            default: return Color.WHITE;
-        }
+    static Paint getFillColor(int i) {
+        Paint fill = i >= 0 && i < FILLS.length ? FILLS[i] : null;
+        return fill != null ? fill : Color.WHITE;
     }
 
     private void setRectangleData(int color, Rectangle rectangle) {
         rectangle.setFill(getFillColor(color));
-        rectangle.setArcHeight(0);
-        rectangle.setArcWidth(0);
-
-        // Add glow effect
-        if (color != 0) { // Only glow non-transparent bricks
-            javafx.scene.effect.Glow glow = new javafx.scene.effect.Glow();
-            glow.setLevel(0.6); // Adjust between 0.0 (no glow) and 1.0 (maximum glow)
-            rectangle.setEffect(glow);
-        } else {
-            rectangle.setEffect(null); // No glow for transparent bricks
-        }
-    }
-
-    private int calculateDropPosition(int[][] brickData, int x, int y) {
-        if (guiController.currentBoardMatrix == null) return y;
-        
-        int dropY = y;
-        // Simulate dropping the brick until it hits something
-        while (true) {
-            int testY = dropY + 1;
-            // Check if the brick would collide at testY position
-            if (MatrixOperations.intersect(guiController.currentBoardMatrix, brickData, x, testY)) {
-                break; // Found collision, stop here
-            }
-            dropY = testY;
-            // Safety check to prevent infinite loop
-            if (dropY >= guiController.currentBoardMatrix.length) {
-                break;
-            }
-        }
-        return dropY;
+        // Only glow non-transparent bricks
+        rectangle.setEffect(color != 0 ? CELL_GLOW : null);
     }
 
     private void updateShadow(ViewData brick) {
@@ -189,8 +196,9 @@ class GuiControllerRenderer {
             return;
         }
 
-        int[][] brickData = brick.getBrickData();
-        int dropY = calculateDropPosition(brickData, brick.getxPosition(), brick.getyPosition());
+        BrickShape brickShape = brick.getBrickShape();
+        // The board computes the landing row once per update; no need to simulate the drop here
+        int dropY = brick.getLandingRow();
         
         // Only show shadow if it's different from current position and below the current position
         if (dropY <= brick.getyPosition()) {
@@ -201,17 +209,20 @@ class GuiControllerRenderer {
         guiController.shadowPanel.setVisible(true);
         
         // Check if shadow rectangles array needs to be resized
-        if (brickData == null || brickData.length == 0 || brickData[0].length == 0) {
+        int rows = brickShape.getRows();
+        int columns = brickShape.getColumns();
+        if (rows == 0 || columns == 0) {
             guiController.shadowPanel.setVisible(false);
             return;
         }
-        if (guiController.shadowRectangles == null || guiController.shadowRectangles.length != brickData.length || 
-            (brickData.length > 0 && (guiController.shadowRectangles[0] == null || guiController.shadowRectangles[0].length != brickData[0].length))) {
+        if (guiController.shadowRectangles == null || guiController.shadowRectangles.length != rows || 
+            (guiController.shadowRectangles[0] == null || guiController.shadowRectangles[0].length != columns)) {
             // Recreate shadow rectangles if size changed
             guiController.shadowPanel.getChildren().clear();
-            guiController.shadowRectangles = new Rectangle[brickData.length][brickData[0].length];
-            for (int i = 0; i < brickData.length; i++) {
-                for (int j = 0; j < brickData[i].length; j++) {
+            shownShadowShape = null;
+            guiController.shadowRectangles = new Rectangle[rows][columns];
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < columns; j++) {
                     Rectangle shadowRect = new Rectangle(BRICK_SIZE, BRICK_SIZE);
                     shadowRect.setFill(Color.GRAY);
                     shadowRect.setOpacity(0.7);
@@ -224,81 +235,224 @@ class GuiControllerRenderer {
         }
         
         // Update shadow rectangles to match brick shape - all grey color (darker)
-        Color shadowGrey = Color.DARKGRAY;
-        Color shadowStroke = Color.BLACK;
-        for (int i = 0; i < brickData.length; i++) {
-            for (int j = 0; j < brickData[i].length; j++) {
-                Rectangle shadowRect = guiController.shadowRectangles[i][j];
-                if (shadowRect != null) {
-                    if (brickData[i][j] != 0) {
-                        // Show shadow for non-empty cells - use grey for all blocks
-                        shadowRect.setVisible(true);
-                        shadowRect.setFill(shadowGrey);
-                        shadowRect.setStroke(shadowStroke);
-                    } else {
-                        shadowRect.setVisible(false);
+        if (brickShape != shownShadowShape) {
+            Color shadowGrey = Color.DARKGRAY;
+            Color shadowStroke = Color.BLACK;
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < columns; j++) {
+                    Rectangle shadowRect = guiController.shadowRectangles[i][j];
+                    if (shadowRect != null) {
+                        if (brickShape.getCell(i, j) != 0) {
+                            // Show shadow for non-empty cells - use grey for all blocks
+                            shadowRect.setVisible(true);
+                            shadowRect.setFill(shadowGrey);
+                            shadowRect.setStroke(shadowStroke);
+                        } else {
+                            shadowRect.setVisible(false);
+                        }
                     }
                 }
             }
+            shownShadowShape = brickShape;
         }
 
-        // Position shadow panel at drop location
-        Point2D origin = gamePanelOriginInRoot();
-        guiController.shadowPanel.setLayoutX(origin.getX() + brick.getxPosition() * guiController.shadowPanel.getVgap() + brick.getxPosition() * BRICK_SIZE);
-        int displayRow = dropY - 2;
-        guiController.shadowPanel.setLayoutY(origin.getY() + displayRow * (guiController.shadowPanel.getHgap() + BRICK_SIZE));
-        
-        // Ensure shadow is behind the brick but visible
-        guiController.shadowPanel.toBack();
+        // Position shadow panel at drop location; the layer order keeps it behind the brick
+        placeOnBoard(guiController.shadowPanel, brick.getxPosition(), dropY);
     }
 
-    private void renderNextPreview(int[][] next) {
-        if (next == null || next.length == 0) return;
-        guiController.nextPanel.getChildren().clear();
-        guiController.nextPreview = new Rectangle[next.length][next[0].length];
-        for (int i = 0; i < next.length; i++) {
-            for (int j = 0; j < next[i].length; j++) {
-                Rectangle r = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                r.setFill(getFillColor(next[i][j]));
-                guiController.nextPreview[i][j] = r;
-                guiController.nextPanel.add(r, j, i);
+    /**
+     * Shows the suggested lock position of the falling piece, drawn like the ghost piece
+     * but outlined in green so the two can be told apart.
+     *
+     * @param shape the shape of the piece in its suggested rotation
+     * @param x the column of the shape matrix origin
+     * @param y the board row of the shape matrix origin
+     */
+    @Override
+    public void showHint(BrickShape shape, int x, int y) {
+        if (guiController.pieceLayer == null) {
+            return;
+        }
+        if (guiController.hintPanel == null) {
+            guiController.hintPanel = new GridPane();
+            guiController.hintPanel.setHgap(guiController.brickPanel.getHgap());
+            guiController.hintPanel.setVgap(guiController.brickPanel.getVgap());
+            guiController.hintPanel.setMouseTransparent(true);
+            guiController.hintPanel.setCache(true);
+            guiController.hintPanel.setCacheHint(CacheHint.SPEED);
+            restackPieceLayer(guiController.pieceLayer.getPrefWidth(), guiController.pieceLayer.getPrefHeight());
+        }
+        int rows = shape.getRows();
+        int columns = shape.getColumns();
+        if (guiController.hintRectangles == null || guiController.hintRectangles.length != rows
+                || guiController.hintRectangles[0].length != columns) {
+            guiController.hintPanel.getChildren().clear();
+            guiController.hintRectangles = new Rectangle[rows][columns];
+            for (int i = 0; i < rows; i++) {
+                for (int j = 0; j < columns; j++) {
+                    Rectangle hintRect = new Rectangle(BRICK_SIZE, BRICK_SIZE);
+                    hintRect.setFill(Color.DARKGRAY);
+                    hintRect.setOpacity(0.5);
+                    hintRect.setStroke(Color.LIMEGREEN);
+                    hintRect.setStrokeWidth(1.5);
+                    guiController.hintRectangles[i][j] = hintRect;
+                    guiController.hintPanel.add(hintRect, j, i);
+                }
+            }
+        }
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
+                // Cells in the two hidden rows above the board are not drawn
+                guiController.hintRectangles[i][j].setVisible(shape.getCell(i, j) != 0 && y + i >= 2);
             }
         }
+
+        placeOnBoard(guiController.hintPanel, x, y);
+        guiController.hintPanel.setVisible(true);
     }
 
-    private void renderHoldPreview(int[][] hold) {
-        if (guiController.holdPanel == null) return;
-        guiController.holdPanel.getChildren().clear();
-        if (hold == null || hold.length == 0) {
-            // No held piece, show empty placeholder (4x4 grid of transparent/empty cells)
-            guiController.holdPreview = new Rectangle[4][4];
-            for (int i = 0; i < 4; i++) {
-                for (int j = 0; j < 4; j++) {
-                    Rectangle r = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                    r.setFill(Color.TRANSPARENT);
-                    r.setStroke(Color.rgb(255, 255, 255, 0.1));
-                    r.setStrokeWidth(0.5);
-                    guiController.holdPreview[i][j] = r;
-                    guiController.holdPanel.add(r, j, i);
+    @Override
+    public void hideHint() {
+        if (guiController.hintPanel != null) {
+            guiController.hintPanel.setVisible(false);
+        }
+    }
+
+    private void renderNextPreview(BrickShape next) {
+        if (next == null || next.getRows() == 0 || next == shownNext) return;
+        guiController.nextPreview = fitPreview(guiController.nextPanel, guiController.nextPreview, next);
+        paintPreview(guiController.nextPreview, next);
+        shownNext = next;
+    }
+
+    /**
+     * Shows the bricks after the next one. The slots are built once and a slot is only
+     * recoloured when the shape queued there changes.
+     */
+    private void renderNextQueue(List<BrickShape> upcoming) {
+        if (guiController.nextQueuePanel == null) return;
+        boolean hasQueue = upcoming.size() > 1;
+        guiController.nextQueuePanel.setVisible(hasQueue);
+        guiController.nextQueuePanel.setManaged(hasQueue);
+        if (queueCells == null) {
+            guiController.nextQueuePanel.getChildren().clear();
+            queueCells = new Rectangle[QUEUE_SLOTS][QUEUE_ROWS][PREVIEW_CELLS];
+            for (int slot = 0; slot < QUEUE_SLOTS; slot++) {
+                GridPane slotPanel = new GridPane();
+                slotPanel.setHgap(1);
+                slotPanel.setVgap(1);
+                for (int i = 0; i < QUEUE_ROWS; i++) {
+                    for (int j = 0; j < PREVIEW_CELLS; j++) {
+                        Rectangle r = new Rectangle(QUEUE_CELL_SIZE, QUEUE_CELL_SIZE, Color.TRANSPARENT);
+                        queueCells[slot][i][j] = r;
+                        slotPanel.add(r, j, i);
+                    }
                 }
+                guiController.nextQueuePanel.getChildren().add(slotPanel);
             }
-            return;
         }
-        guiController.holdPreview = new Rectangle[hold.length][hold[0].length];
-        for (int i = 0; i < hold.length; i++) {
-            for (int j = 0; j < hold[i].length; j++) {
+        for (int slot = 0; slot < QUEUE_SLOTS; slot++) {
+            BrickShape shape = slot + 1 < upcoming.size() ? upcoming.get(slot + 1) : null;
+            if (shape == shownQueue[slot]) {
+                continue;
+            }
+            Rectangle[][] cells = queueCells[slot];
+            for (int i = 0; i < QUEUE_ROWS; i++) {
+                int row = shape != null ? shape.getMinRow() + i : -1;
+                for (int j = 0; j < PREVIEW_CELLS; j++) {
+                    boolean inShape = shape != null && row < shape.getRows() && j < shape.getColumns();
+                    cells[i][j].setFill(getFillColor(inShape ? shape.getCell(row, j) : 0));
+                }
+            }
+            shownQueue[slot] = shape;
+        }
+    }
+
+    private void renderHoldPreview(BrickShape hold) {
+        if (guiController.holdPanel == null) return;
+        if (hold != null && hold.getRows() == 0) {
+            hold = null;
+        }
+        if (guiController.holdPreview != null && hold == shownHold) return;
+        guiController.holdPreview = fitPreview(guiController.holdPanel, guiController.holdPreview, hold);
+        // No held piece shows an empty placeholder grid
+        paintPreview(guiController.holdPreview, hold);
+        shownHold = hold;
+    }
+
+    /**
+     * Returns the preview cells of a panel, building them the first time and again only if
+     * a shape does not fit; otherwise the same rectangles are recoloured for every piece.
+     */
+    private Rectangle[][] fitPreview(GridPane panel, Rectangle[][] cells, BrickShape shape) {
+        int rows = shape != null ? Math.max(PREVIEW_CELLS, shape.getRows()) : PREVIEW_CELLS;
+        int columns = shape != null ? Math.max(PREVIEW_CELLS, shape.getColumns()) : PREVIEW_CELLS;
+        if (cells != null && cells.length >= rows && cells[0].length >= columns
+                && panel.getChildren().size() == cells.length * cells[0].length) {
+            return cells;
+        }
+        panel.getChildren().clear();
+        cells = new Rectangle[rows][columns];
+        for (int i = 0; i < rows; i++) {
+            for (int j = 0; j < columns; j++) {
                 Rectangle r = new Rectangle(BRICK_SIZE, BRICK_SIZE);
-                r.setFill(getFillColor(hold[i][j]));
-                guiController.holdPreview[i][j] = r;
-                guiController.holdPanel.add(r, j, i);
+                r.setStrokeWidth(0.5);
+                cells[i][j] = r;
+                panel.add(r, j, i);
+            }
+        }
+        return cells;
+    }
+
+    private void paintPreview(Rectangle[][] cells, BrickShape shape) {
+        for (int i = 0; i < cells.length; i++) {
+            for (int j = 0; j < cells[i].length; j++) {
+                boolean inShape = shape != null && i < shape.getRows() && j < shape.getColumns();
+                cells[i][j].setFill(getFillColor(inShape ? shape.getCell(i, j) : 0));
+                cells[i][j].setStroke(shape == null ? EMPTY_PREVIEW_STROKE : null);
             }
         }
     }
     
-    private Point2D gamePanelOriginInRoot() {
-        Pane root = (Pane) guiController.gameBoard.getParent();
-        Point2D scenePt = guiController.gamePanel.localToScene(0, 0);
-        return root.sceneToLocal(scenePt);
+    /**
+     * Puts the ghost, hint and falling brick, in that order from the back, on a layer laid
+     * over the settled cells. The layer has the size and position of the game panel, so a
+     * board cell is at the same offset in both and pieces never need their position
+     * converted between coordinate spaces, however the board is laid out or resized.
+     */
+    private void restackPieceLayer(double width, double height) {
+        if (guiController.pieceLayer == null) {
+            guiController.pieceLayer = new Pane();
+            guiController.pieceLayer.setMouseTransparent(true);
+            guiController.pieceLayer.setPickOnBounds(false);
+        }
+        Pane layer = guiController.pieceLayer;
+        layer.setPrefSize(width, height);
+        layer.setMinSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
+        layer.setMaxSize(Region.USE_PREF_SIZE, Region.USE_PREF_SIZE);
+        if (layer.getParent() == null) {
+            // Above the settled cells, below the game over notification
+            int index = guiController.boardStack.getChildren().indexOf(guiController.gamePanel);
+            guiController.boardStack.getChildren().add(index + 1, layer);
+        }
+        // Moving a panel only changes its translation, so the cached bitmap is reused
+        guiController.brickPanel.setCache(true);
+        guiController.brickPanel.setCacheHint(CacheHint.SPEED);
+        guiController.shadowPanel.setCache(true);
+        guiController.shadowPanel.setCacheHint(CacheHint.SPEED);
+        List<Node> layers = new ArrayList<>(3);
+        layers.add(guiController.shadowPanel);
+        if (guiController.hintPanel != null) {
+            layers.add(guiController.hintPanel);
+        }
+        layers.add(guiController.brickPanel);
+        // Takes the brick panel out of the root pane it is declared in
+        layer.getChildren().setAll(layers);
+    }
+
+    private static void placeOnBoard(GridPane panel, int x, int y) {
+        panel.setTranslateX(x * (BRICK_SIZE + panel.getHgap()));
+        panel.setTranslateY((y - 2) * (BRICK_SIZE + panel.getVgap()));
     }
 }
 
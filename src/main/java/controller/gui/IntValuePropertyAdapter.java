@@ -0,0 +1,59 @@
+package controller.gui;
+
+import javafx.application.Platform;
+import javafx.beans.property.IntegerProperty;
+import javafx.beans.property.ReadOnlyIntegerProperty;
+import javafx.beans.property.SimpleIntegerProperty;
+import model.IntValueListener;
+import model.PowerUpManager;
+import model.Score;
+
+/**
+ * Adapts the plain integer counters of the model (score, skill points) to JavaFX
+ * properties so labels can bind to them. The model only knows about
+ * {@link IntValueListener}; this class is the single place where its changes are
+ * turned into observable FX values, always updated on the FX application thread.
+ * 
+ * @author COMP2042 Coursework
+ */
+final class IntValuePropertyAdapter implements IntValueListener {
+
+    private final IntegerProperty property;
+
+    private IntValuePropertyAdapter(int initialValue) {
+        this.property = new SimpleIntegerProperty(initialValue);
+    }
+
+    /**
+     * Creates a read-only property that follows the given score.
+     * 
+     * @param score the score to observe
+     * @return a property holding the current score
+     */
+    static ReadOnlyIntegerProperty scoreProperty(Score score) {
+        IntValuePropertyAdapter adapter = new IntValuePropertyAdapter(score.getValue());
+        score.addListener(adapter);
+        return adapter.property;
+    }
+
+    /**
+     * Creates a read-only property that follows the skill points of a power-up manager.
+     * 
+     * @param powerUpManager the power-up manager to observe
+     * @return a property holding the current skill points
+     */
+    static ReadOnlyIntegerProperty skillPointsProperty(PowerUpManager powerUpManager) {
+        IntValuePropertyAdapter adapter = new IntValuePropertyAdapter(powerUpManager.getSkillPoints());
+        powerUpManager.addSkillPointsListener(adapter);
+        return adapter.property;
+    }
+
+    @Override
+    public void valueChanged(int oldValue, int newValue) {
+        if (Platform.isFxApplicationThread()) {
+            property.set(newValue);
+        } else {
+            Platform.runLater(() -> property.set(newValue));
+        }
+    }
+}
@@ -0,0 +1,663 @@
+package model;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import view.ClearRow;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Bitboard implementation of the game board for Tetris.
+ * Stores every row of the playfield as an occupancy bitmask (bit c set when column c
+ * is filled) next to a separate color plane used for rendering. Collision, merge and
+ * full-row checks use the precomputed row masks of each {@link BrickShape}, so they become
+ * a few shift/AND operations instead of cell-by-cell loops. Gameplay rules (spawning,
+ * hold, SRS kicks, power-ups, bombs) match {@link SimpleBoard}.
+ *
+ * @author COMP2042 Coursework
+ */
+public class BitboardBoard implements Board {
+
+    private static final int SPAWN_X = 4;
+    private static final int SPAWN_Y = 0;
+
+    private final int rows;
+    private final int columns;
+    private final int fullRowMask;
+    private BrickGenerator brickGenerator;
+    private final int[] rowMasks;
+    private final int[][] colorPlane;
+    private final ClearRow noLinesCleared;
+    private boolean colorPlaneExposed = false;
+    // Rows covered by bricks merged since the last clear; only these can have become full
+    private int pendingTopRow;
+    private int pendingBottomRow = -1;
+    // Scratch space for recycling color rows pushed off the top by garbage
+    private final int[][] recycledRows;
+    // Immutable copy of each row as of the last snapshot or restore; moves along with its row
+    private final int[][] capturedRows;
+    // Bit per row written since the last snapshot or restore; also moves along with its row
+    private long writtenRows;
+    private final long allRows;
+    private final int[] emptyRow;
+    // Garbage received from an opponent, pushed in when the next brick locks
+    private final GarbageQueue garbageQueue = new GarbageQueue();
+
+    private Brick currentBrick;
+    private List<BrickShape> currentShapes;
+    // Type, rotation and position of the falling brick, packed by PieceState
+    private int pieceState;
+
+    private final Score score;
+    private final PowerUpManager powerUpManager;
+    private Brick heldBrick;
+    private boolean canHold = true; // Can only hold once per piece placement
+    private boolean isBombPiece = false; // Flag for bomb piece power-up
+
+    // Temporary storage for bomb effect position
+    private int bombEffectX, bombEffectY;
+    private boolean shouldShowBombEffect = false;
+
+    /**
+     * Constructs a new BitboardBoard. Arguments follow the {@link SimpleBoard} convention
+     * so the two implementations are interchangeable.
+     *
+     * @param rows the number of rows of the game board (including the 2 hidden spawn rows, at most 63)
+     * @param columns the number of columns of the game board (at most 31)
+     */
+    public BitboardBoard(int rows, int columns) {
+        this(rows, columns, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a new BitboardBoard that draws its bricks from the given generator.
+     *
+     * @param rows the number of rows of the game board (including the 2 hidden spawn rows, at most 63)
+     * @param columns the number of columns of the game board (at most 31)
+     * @param brickGenerator the source of bricks
+     */
+    public BitboardBoard(int rows, int columns, BrickGenerator brickGenerator) {
+        if (columns <= 0 || columns > 31) {
+            throw new IllegalArgumentException("Bitboard rows support 1 to 31 columns, got " + columns);
+        }
+        if (rows <= 0 || rows >= Long.SIZE) {
+            throw new IllegalArgumentException("Bitboard boards support 1 to " + (Long.SIZE - 1) + " rows, got " + rows);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.fullRowMask = (1 << columns) - 1;
+        rowMasks = new int[rows];
+        pendingTopRow = rows;
+        allRows = (1L << rows) - 1;
+        colorPlane = new int[rows][columns];
+        recycledRows = new int[rows][];
+        emptyRow = new int[columns];
+        capturedRows = new int[rows][];
+        Arrays.fill(capturedRows, emptyRow);
+        noLinesCleared = new ClearRow(0, colorPlane, 0);
+        this.brickGenerator = brickGenerator;
+        score = new Score();
+        powerUpManager = new PowerUpManager();
+    }
+
+    @Override
+    public boolean moveBrickDown() {
+        return tryMove(PieceState.x(pieceState), PieceState.y(pieceState) + 1);
+    }
+
+    @Override
+    public boolean moveBrickLeft() {
+        return tryMove(PieceState.x(pieceState) - 1, PieceState.y(pieceState));
+    }
+
+    @Override
+    public boolean moveBrickRight() {
+        return tryMove(PieceState.x(pieceState) + 1, PieceState.y(pieceState));
+    }
+
+    private boolean tryMove(int x, int y) {
+        syncMasksIfExposed();
+        if (collides(currentShape(), x, y)) {
+            return false;
+        }
+        pieceState = PieceState.withPosition(pieceState, x, y);
+        return true;
+    }
+
+    private BrickShape currentShape() {
+        return currentShapes.get(PieceState.rotation(pieceState) % currentShapes.size());
+    }
+
+    @Override
+    public int getPieceState() {
+        return pieceState;
+    }
+
+    @Override
+    public boolean rotateLeftBrick() {
+        return rotate(false);
+    }
+
+    @Override
+    public boolean rotateRightBrick() {
+        return rotate(true);
+    }
+
+    private boolean rotate(boolean clockwise) {
+        syncMasksIfExposed();
+        int shapeCount = currentShapes.size();
+        int typeId = PieceState.typeId(pieceState);
+        int from = PieceState.rotation(pieceState);
+        int to = RotationSystem.rotate(from, RotationSystem.rotationCount(typeId, shapeCount), clockwise);
+        BrickShape rotated = currentShapes.get(to % shapeCount);
+        int[] kicks = RotationSystem.kicks(typeId, shapeCount, from, to);
+        int x = PieceState.x(pieceState);
+        int y = PieceState.y(pieceState);
+
+        // Same SRS kick order as SimpleBoard; each test is a handful of row mask operations
+        for (int i = 0; i < kicks.length; i += 2) {
+            if (!collides(rotated, x + kicks[i], y + kicks[i + 1])) {
+                pieceState = PieceState.of(typeId, to, x + kicks[i], y + kicks[i + 1]);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public boolean hardDropBrick() {
+        pieceState = PieceState.withPosition(pieceState, PieceState.x(pieceState), dropY());
+        return true;
+    }
+
+    @Override
+    public int getHardDropDistance() {
+        return Math.max(0, dropY() - PieceState.y(pieceState));
+    }
+
+    private int dropY() {
+        syncMasksIfExposed();
+        BrickShape shape = currentShape();
+        int x = PieceState.x(pieceState);
+        int y = PieceState.y(pieceState);
+        while (y < rows && !collides(shape, x, y + 1)) {
+            y++;
+        }
+        return y;
+    }
+
+    @Override
+    public boolean holdBrick() {
+        // Can only hold once per piece placement
+        if (!canHold) {
+            return false;
+        }
+        Brick previous = currentBrick;
+        if (heldBrick == null) {
+            setCurrentBrick(brickGenerator.getBrick());
+        } else {
+            setCurrentBrick(heldBrick);
+        }
+        heldBrick = previous;
+        canHold = false; // Can't hold again until this piece is placed
+        return true;
+    }
+
+    @Override
+    public boolean createNewBrick() {
+        syncMasksIfExposed();
+        setCurrentBrick(brickGenerator.getBrick());
+        canHold = true; // Reset hold ability when new piece is created
+        return collides(currentShape(), SPAWN_X, SPAWN_Y);
+    }
+
+    private void setCurrentBrick(Brick brick) {
+        currentBrick = brick;
+        currentShapes = brick.getShapes();
+        pieceState = PieceState.of(brick.getTypeId(), 0, SPAWN_X, SPAWN_Y);
+    }
+
+    /**
+     * Returns the color plane of the board. The matrix is live: writes through it are
+     * picked up because occupancy masks are rebuilt lazily on the next board operation.
+     *
+     * @return the live color plane indexed as [row][column]
+     */
+    @Override
+    public int[][] getBoardMatrix() {
+        colorPlaneExposed = true;
+        return colorPlane;
+    }
+
+    @Override
+    public int[][] getBoardMatrixView() {
+        return colorPlane;
+    }
+
+    @Override
+    public ViewData getViewData() {
+        BrickShape heldBrickData = null;
+        if (heldBrick != null) {
+            heldBrickData = heldBrick.getShapes().get(0);
+        }
+        return new ViewData(currentShape(), PieceState.x(pieceState), PieceState.y(pieceState),
+                ViewData.previewShapes(brickGenerator), heldBrickData, dropY());
+    }
+
+    @Override
+    public void mergeBrickToBackground() {
+        syncMasksIfExposed();
+        BrickShape shape = currentShape();
+        int currentX = PieceState.x(pieceState);
+        int currentY = PieceState.y(pieceState);
+        // If this is a bomb piece, clear 4x4 area and don't place the piece
+        if (isBombPiece) {
+            // The first filled cell (row-major order) is the bomb center
+            int centerX = currentX;
+            int centerY = currentY;
+            if (shape.getCellCount() > 0) {
+                centerX += shape.getCellColumn(0);
+                centerY += shape.getCellRow(0);
+            }
+            clearBombArea(centerX, centerY);
+            bombEffectX = centerX;
+            bombEffectY = centerY;
+            shouldShowBombEffect = true;
+            isBombPiece = false;
+            return;
+        }
+
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int boardRow = currentY + shape.getCellRow(i);
+            int boardCol = currentX + shape.getCellColumn(i);
+            if (boardRow >= 0 && boardRow < rows && boardCol >= 0 && boardCol < columns) {
+                rowMasks[boardRow] |= 1 << boardCol;
+                colorPlane[boardRow][boardCol] = shape.getCellColor(i);
+                pendingTopRow = Math.min(pendingTopRow, boardRow);
+                pendingBottomRow = Math.max(pendingBottomRow, boardRow);
+                writtenRows |= 1L << boardRow;
+            }
+        }
+    }
+
+    @Override
+    public boolean shouldShowBombEffect() {
+        return shouldShowBombEffect;
+    }
+
+    @Override
+    public int getBombEffectX() {
+        return bombEffectX;
+    }
+
+    @Override
+    public int getBombEffectY() {
+        return bombEffectY;
+    }
+
+    @Override
+    public void clearBombEffectFlag() {
+        shouldShowBombEffect = false;
+    }
+
+    /**
+     * Removes full rows. Only the rows covered by bricks merged since the last call are
+     * tested against the full-row mask, and compaction starts at the lowest full one, so
+     * the rows below it are never touched.
+     */
+    @Override
+    public ClearRow clearRows() {
+        syncMasksIfExposed();
+        int fromRow = pendingTopRow;
+        int toRow = pendingBottomRow;
+        pendingTopRow = rows;
+        pendingBottomRow = -1;
+        int lowestFullRow = -1;
+        for (int row = toRow; row >= fromRow; row--) {
+            if (rowMasks[row] == fullRowMask) {
+                lowestFullRow = row;
+                break;
+            }
+        }
+        if (lowestFullRow < 0) {
+            return noLinesCleared;
+        }
+
+        int removed = 0;
+        long clearedRowMask = 0L;
+        int destination = lowestFullRow;
+        // Walk upward, keeping rows that are not full and compacting them downward
+        for (int row = lowestFullRow; row >= 0; row--) {
+            if (row >= fromRow && rowMasks[row] == fullRowMask) {
+                removed++;
+                if (row < Long.SIZE) {
+                    clearedRowMask |= 1L << row;
+                }
+                continue;
+            }
+            if (destination != row) {
+                rowMasks[destination] = rowMasks[row];
+                capturedRows[destination] = capturedRows[row];
+                writtenRows = (writtenRows & ~(1L << destination)) | ((writtenRows >>> row & 1L) << destination);
+                int[] tmp = colorPlane[destination];
+                colorPlane[destination] = colorPlane[row];
+                colorPlane[row] = tmp;
+            }
+            destination--;
+        }
+        for (int row = destination; row >= 0; row--) {
+            rowMasks[row] = 0;
+            Arrays.fill(colorPlane[row], 0);
+            capturedRows[row] = emptyRow;
+        }
+        // Rows emptied at the top match their captured empty row again
+        writtenRows &= ~((2L << destination) - 1);
+        int scoreBonus = 50 * removed * removed;
+        return new ClearRow(removed, colorPlane, scoreBonus, clearedRowMask);
+    }
+
+    @Override
+    public Score getScore() {
+        return score;
+    }
+
+    @Override
+    public void newGame() {
+        Arrays.fill(rowMasks, 0);
+        for (int[] row : colorPlane) {
+            Arrays.fill(row, 0);
+        }
+        Arrays.fill(capturedRows, emptyRow);
+        writtenRows = 0L;
+        colorPlaneExposed = false;
+        pendingTopRow = rows;
+        pendingBottomRow = -1;
+        garbageQueue.clear();
+        score.reset();
+        powerUpManager.reset();
+        heldBrick = null;
+        canHold = true;
+        isBombPiece = false;
+        createNewBrick();
+    }
+
+    @Override
+    public PowerUpManager getPowerUpManager() {
+        return powerUpManager;
+    }
+
+    @Override
+    public void setBombPiece(boolean isBomb) {
+        this.isBombPiece = isBomb;
+    }
+
+    /**
+     * Check if bomb piece is active (before it explodes)
+     */
+    public boolean isBombPieceActive() {
+        return isBombPiece;
+    }
+
+    /**
+     * Clear bottom numRows rows and shift everything above downward
+     */
+    @Override
+    public boolean clearRowsPowerUp(int numRows) {
+        if (numRows <= 0 || numRows > rows) {
+            return false;
+        }
+        syncMasksIfExposed();
+        for (int row = rows - 1; row >= 0; row--) {
+            int source = row - numRows;
+            if (source >= 0) {
+                rowMasks[row] = rowMasks[source];
+                System.arraycopy(colorPlane[source], 0, colorPlane[row], 0, columns);
+                capturedRows[row] = capturedRows[source];
+            } else {
+                rowMasks[row] = 0;
+                Arrays.fill(colorPlane[row], 0);
+                capturedRows[row] = emptyRow;
+            }
+        }
+        // Written flags move down too; the emptied rows at the top match their captured rows
+        writtenRows = (writtenRows << numRows) & allRows;
+        // Rows still waiting for a full-row check have moved down with everything else
+        if (pendingBottomRow >= 0) {
+            pendingTopRow = Math.min(rows, pendingTopRow + numRows);
+            pendingBottomRow = Math.min(rows - 1, pendingBottomRow + numRows);
+        }
+        return true;
+    }
+
+    /**
+     * Pushes garbage rows in from the bottom right away, lifting the falling brick by as
+     * few rows as it needs, with the same rules as {@link SimpleBoard#insertGarbage(int, int)}.
+     */
+    @Override
+    public boolean insertGarbage(int lines, int holeColumn) {
+        boolean toppedOut = pushGarbage(lines, holeColumn);
+        BrickShape shape = currentShape();
+        int x = PieceState.x(pieceState);
+        int y = PieceState.y(pieceState);
+        for (int lift = 0; lift <= Math.max(0, lines); lift++) {
+            if (!collides(shape, x, y - lift)) {
+                pieceState = PieceState.withPosition(pieceState, x, y - lift);
+                return toppedOut;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void queueGarbage(int lines, int holeColumn) {
+        checkHoleColumn(holeColumn);
+        if (lines > 0) {
+            garbageQueue.add(lines, holeColumn);
+        }
+    }
+
+    @Override
+    public int getPendingGarbage() {
+        return garbageQueue.getPendingLines();
+    }
+
+    @Override
+    public boolean applyPendingGarbage() {
+        boolean toppedOut = false;
+        while (!garbageQueue.isEmpty()) {
+            int entry = garbageQueue.poll();
+            toppedOut |= pushGarbage(GarbageQueue.lines(entry), GarbageQueue.holeColumn(entry));
+        }
+        return toppedOut;
+    }
+
+    /**
+     * Shifts the row masks up and rotates the color rows pushed off the top round to the
+     * bottom, where they are refilled as garbage. Each garbage row is a single mask store.
+     */
+    private boolean pushGarbage(int lines, int holeColumn) {
+        checkHoleColumn(holeColumn);
+        if (lines <= 0) {
+            return false;
+        }
+        int count = Math.min(lines, rows);
+        syncMasksIfExposed();
+        boolean toppedOut = false;
+        for (int row = 0; row < count; row++) {
+            toppedOut |= rowMasks[row] != 0;
+        }
+
+        System.arraycopy(rowMasks, count, rowMasks, 0, rows - count);
+        System.arraycopy(colorPlane, 0, recycledRows, 0, count);
+        System.arraycopy(colorPlane, count, colorPlane, 0, rows - count);
+        System.arraycopy(recycledRows, 0, colorPlane, rows - count, count);
+        System.arraycopy(capturedRows, count, capturedRows, 0, rows - count);
+        int garbageMask = fullRowMask & ~(1 << holeColumn);
+        for (int row = rows - count; row < rows; row++) {
+            rowMasks[row] = garbageMask;
+            Arrays.fill(colorPlane[row], GARBAGE_CELL);
+            colorPlane[row][holeColumn] = 0;
+            capturedRows[row] = emptyRow;
+            recycledRows[row - rows + count] = null;
+        }
+        // Written flags move up too, and the new garbage rows differ from their empty captures
+        writtenRows = (writtenRows >>> count) | (allRows & ~(allRows >>> count));
+        // Rows still waiting for a full-row check have moved up with everything else
+        if (pendingBottomRow >= count) {
+            pendingTopRow = Math.max(0, pendingTopRow - count);
+            pendingBottomRow -= count;
+        } else {
+            pendingTopRow = rows;
+            pendingBottomRow = -1;
+        }
+        return toppedOut;
+    }
+
+    private void checkHoleColumn(int holeColumn) {
+        if (holeColumn < 0 || holeColumn >= columns) {
+            throw new IllegalArgumentException("Hole column must be between 0 and " + (columns - 1) + ", got " + holeColumn);
+        }
+    }
+
+    /**
+     * Captures the game state, sharing unchanged rows with the previous snapshot like
+     * {@link SimpleBoard#snapshot()}. Only rows written since the last snapshot or restore
+     * are compared and copied.
+     */
+    @Override
+    public BoardSnapshot snapshot() {
+        syncMasksIfExposed();
+        for (long pending = writtenRows; pending != 0; pending &= pending - 1) {
+            int row = Long.numberOfTrailingZeros(pending);
+            if (!Arrays.equals(colorPlane[row], capturedRows[row])) {
+                capturedRows[row] = colorPlane[row].clone();
+            }
+        }
+        writtenRows = 0L;
+        int[][] snapshotRows = capturedRows.clone();
+        return new BoardSnapshot(snapshotRows, pieceState, currentBrick, heldBrick, canHold, isBombPiece,
+                brickGenerator.copy(), score.getValue(), powerUpManager.capture(), garbageQueue.toArray());
+    }
+
+    /**
+     * Puts the board back into a captured state. A row is only compared when it was written
+     * since the last snapshot or restore, or when the snapshot holds a different row array
+     * for it; the color row and occupancy mask are rewritten only where cells differ.
+     */
+    @Override
+    public void restore(BoardSnapshot snapshot) {
+        if (snapshot.getRows() != rows || snapshot.getColumns() != columns) {
+            throw new IllegalArgumentException("Snapshot is " + snapshot.getRows() + "x" + snapshot.getColumns()
+                    + ", board is " + rows + "x" + columns);
+        }
+        syncMasksIfExposed();
+        for (int row = 0; row < rows; row++) {
+            int[] source = snapshot.rows[row];
+            if ((writtenRows & 1L << row) == 0 && capturedRows[row] == source) {
+                continue;
+            }
+            if (!Arrays.equals(colorPlane[row], source)) {
+                System.arraycopy(source, 0, colorPlane[row], 0, columns);
+                int mask = 0;
+                for (int col = 0; col < columns; col++) {
+                    if (source[col] != 0) {
+                        mask |= 1 << col;
+                    }
+                }
+                rowMasks[row] = mask;
+                // A rewritten row may be full, so the next clear checks it
+                pendingTopRow = Math.min(pendingTopRow, row);
+                pendingBottomRow = Math.max(pendingBottomRow, row);
+            }
+            capturedRows[row] = source;
+        }
+        writtenRows = 0L;
+
+        setCurrentBrick(snapshot.currentBrick);
+        pieceState = snapshot.pieceState;
+        heldBrick = snapshot.heldBrick;
+        canHold = snapshot.canHold;
+        isBombPiece = snapshot.bombPiece;
+        brickGenerator = snapshot.brickGenerator.copy();
+        garbageQueue.restore(snapshot.garbage);
+        score.set(snapshot.score);
+        powerUpManager.restore(snapshot.powerUps);
+    }
+
+    /**
+     * Clear a 4x4 area centered at (centerX, centerY)
+     */
+    public boolean clearBombArea(int centerX, int centerY) {
+        syncMasksIfExposed();
+        int startCol = Math.max(0, centerX - 1);
+        int endCol = Math.min(columns - 1, centerX + 2);
+        if (startCol > endCol) {
+            return true;
+        }
+        int areaMask = shift((1 << (endCol - startCol + 1)) - 1, startCol);
+        for (int row = Math.max(0, centerY - 1); row <= Math.min(rows - 1, centerY + 2); row++) {
+            rowMasks[row] &= ~areaMask;
+            for (int col = startCol; col <= endCol; col++) {
+                colorPlane[row][col] = 0;
+            }
+            writtenRows |= 1L << row;
+        }
+        return true;
+    }
+
+    /**
+     * Tests a shape against the walls, floor and settled cells one row mask at a time.
+     */
+    private boolean collides(BrickShape shape, int x, int y) {
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            int mask = shape.getRowMask(r);
+            if (mask == 0) {
+                continue;
+            }
+            int boardRow = y + r;
+            if (boardRow < 0 || boardRow >= rows) {
+                return true;
+            }
+            // Cells pushed past column 0 are lost by the shift, so check for them first
+            if (x < 0 && (mask & ((1 << -x) - 1)) != 0) {
+                return true;
+            }
+            int shifted = shift(mask, x);
+            if ((shifted & ~fullRowMask) != 0 || (shifted & rowMasks[boardRow]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int shift(int mask, int x) {
+        return x >= 0 ? mask << x : mask >>> -x;
+    }
+
+    /**
+     * Rebuilds the occupancy masks from the color plane, and queues every row for the next
+     * full-row check and snapshot, if the plane has been handed out through {@link #getBoardMatrix()}
+     * since the last rebuild.
+     */
+    private void syncMasksIfExposed() {
+        if (!colorPlaneExposed) {
+            return;
+        }
+        for (int row = 0; row < rows; row++) {
+            int mask = 0;
+            for (int col = 0; col < columns; col++) {
+                if (colorPlane[row][col] != 0) {
+                    mask |= 1 << col;
+                }
+            }
+            rowMasks[row] = mask;
+        }
+        pendingTopRow = 0;
+        pendingBottomRow = rows - 1;
+        writtenRows = allRows;
+        colorPlaneExposed = false;
+    }
+}
@@ -11,6 +11,11 @@ import view.ClearRow;
  */
 public interface Board {
 
+    /**
+     * Cell value written for garbage rows pushed in from the bottom.
+     */
+    int GARBAGE_CELL = 8;
+
     boolean moveBrickDown();
 
     boolean moveBrickLeft();
@@ -19,6 +24,8 @@ public interface Board {
 
     boolean rotateLeftBrick();
 
+    boolean rotateRightBrick();
+
     boolean hardDropBrick();
 
     boolean holdBrick();
@@ -27,8 +34,17 @@ public interface Board {
 
     int[][] getBoardMatrix();
 
+    /**
+     * Gets the settled cells for reading only, for example to render them after a lock.
+     * Unlike {@link #getBoardMatrix()} this never makes the board rescan for outside
+     * writes, so nothing may be written through it.
+     */
+    int[][] getBoardMatrixView();
+
     ViewData getViewData();
 
+    int getPieceState();
+
     void mergeBrickToBackground();
 
     ClearRow clearRows();
@@ -36,4 +52,32 @@ public interface Board {
     Score getScore();
 
     void newGame();
+
+    int getHardDropDistance();
+
+    PowerUpManager getPowerUpManager();
+
+    boolean clearRowsPowerUp(int numRows);
+
+    void setBombPiece(boolean isBomb);
+
+    boolean shouldShowBombEffect();
+
+    int getBombEffectX();
+
+    int getBombEffectY();
+
+    void clearBombEffectFlag();
+
+    boolean insertGarbage(int lines, int holeColumn);
+
+    void queueGarbage(int lines, int holeColumn);
+
+    int getPendingGarbage();
+
+    boolean applyPendingGarbage();
+
+    BoardSnapshot snapshot();
+
+    void restore(BoardSnapshot snapshot);
 }
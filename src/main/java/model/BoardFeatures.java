@@ -0,0 +1,366 @@
+package model;
+
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.util.Arrays;
+
+/**
+ * Heuristic features of a settled board, for bots that rank candidate placements.
+ * The board is held as bitboards in both directions: one occupancy mask per row and one
+ * per column (bit r set when row r is filled, row 0 being the top). Every feature then
+ * follows from a few bit counts, and {@link #place(BrickShape, int, int)} only updates the
+ * rows and columns a piece touches, plus a pass over the column heights, instead of
+ * rescanning the whole matrix.
+ * <p>
+ * Features, using the usual definitions from the Tetris AI literature:
+ * <ul>
+ *     <li>aggregate height: the sum of column heights</li>
+ *     <li>holes: empty cells with a filled cell somewhere above them</li>
+ *     <li>bumpiness: the sum of height differences between neighbouring columns</li>
+ *     <li>row transitions: filled/empty changes along each row, walls counting as filled</li>
+ *     <li>column transitions: filled/empty changes down each column, the floor counting as filled</li>
+ *     <li>wells: cumulative well depth, 1 + 2 + ... + d for a column d cells below both
+ *     neighbours (walls counting as full height)</li>
+ *     <li>lines cleared: rows removed by the last {@link #place(BrickShape, int, int)}</li>
+ * </ul>
+ * The settled cells are also Zobrist hashed with {@link ZobristKeys}. Placing a piece
+ * XORs in its cells, and a line clear XORs out the cleared rows and moves the keys of the
+ * rows that fall, so bots can spot boards they reached before by another move order.
+ *
+ * @author COMP2042 Coursework
+ */
+public final class BoardFeatures {
+
+    /**
+     * The features, in the order used by weight vectors.
+     */
+    public enum Feature {
+        AGGREGATE_HEIGHT, HOLES, BUMPINESS, ROW_TRANSITIONS, COLUMN_TRANSITIONS, WELLS, LINES_CLEARED
+    }
+
+    private static final Feature[] FEATURES = Feature.values();
+
+    private final int rows;
+    private final int columns;
+    private final int fullRowMask;
+    private final int[] rowMasks;
+    private final long[] columnMasks;
+    private final int[] rowTransitions;
+    private final int[] columnHoles;
+    private final int[] columnTransitions;
+    private final int[] heights;
+
+    private int totalRowTransitions;
+    private int totalHoles;
+    private int totalColumnTransitions;
+    private int aggregateHeight;
+    private int bumpiness;
+    private int wells;
+    private int linesCleared;
+    private long hash;
+
+    // Scratch copy used to score placements without touching this instance
+    private BoardFeatures probe;
+
+    /**
+     * Constructs the features of an empty board.
+     *
+     * @param rows the number of rows of the board (at most 62)
+     * @param columns the number of columns of the board (at most 30)
+     */
+    public BoardFeatures(int rows, int columns) {
+        if (rows <= 0 || rows > 62 || columns <= 0 || columns > 30) {
+            throw new IllegalArgumentException("Board features support up to 62x30 boards, got " + rows + "x" + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.fullRowMask = (1 << columns) - 1;
+        rowMasks = new int[rows];
+        columnMasks = new long[columns];
+        rowTransitions = new int[rows];
+        columnHoles = new int[columns];
+        columnTransitions = new int[columns];
+        heights = new int[columns];
+        clear();
+    }
+
+    /**
+     * Empties the board.
+     */
+    public void clear() {
+        Arrays.fill(rowMasks, 0);
+        Arrays.fill(columnMasks, 0L);
+        linesCleared = 0;
+        hash = 0L;
+        recomputeAll();
+    }
+
+    /**
+     * Loads the settled cells of a snapshot, replacing the current board.
+     *
+     * @param snapshot a snapshot of a board with the same dimensions
+     */
+    public void load(BoardSnapshot snapshot) {
+        if (snapshot.getRows() != rows || snapshot.getColumns() != columns) {
+            throw new IllegalArgumentException("Snapshot is " + snapshot.getRows() + "x" + snapshot.getColumns()
+                    + ", features are " + rows + "x" + columns);
+        }
+        Arrays.fill(columnMasks, 0L);
+        hash = 0L;
+        for (int row = 0; row < rows; row++) {
+            int mask = 0;
+            int[] cells = snapshot.rows[row];
+            for (int col = 0; col < columns; col++) {
+                if (cells[col] != 0) {
+                    mask |= 1 << col;
+                    columnMasks[col] |= 1L << row;
+                }
+            }
+            rowMasks[row] = mask;
+            hash ^= ZobristKeys.row(row, mask);
+        }
+        linesCleared = 0;
+        recomputeAll();
+    }
+
+    /**
+     * Makes this board a copy of another one of the same size.
+     *
+     * @param other the features to copy
+     */
+    public void copyFrom(BoardFeatures other) {
+        if (other.rows != rows || other.columns != columns) {
+            throw new IllegalArgumentException("Cannot copy " + other.rows + "x" + other.columns
+                    + " features into " + rows + "x" + columns);
+        }
+        System.arraycopy(other.rowMasks, 0, rowMasks, 0, rows);
+        System.arraycopy(other.columnMasks, 0, columnMasks, 0, columns);
+        System.arraycopy(other.rowTransitions, 0, rowTransitions, 0, rows);
+        System.arraycopy(other.columnHoles, 0, columnHoles, 0, columns);
+        System.arraycopy(other.columnTransitions, 0, columnTransitions, 0, columns);
+        System.arraycopy(other.heights, 0, heights, 0, columns);
+        totalRowTransitions = other.totalRowTransitions;
+        totalHoles = other.totalHoles;
+        totalColumnTransitions = other.totalColumnTransitions;
+        aggregateHeight = other.aggregateHeight;
+        bumpiness = other.bumpiness;
+        wells = other.wells;
+        linesCleared = other.linesCleared;
+        hash = other.hash;
+    }
+
+    /**
+     * Merges a piece into the board and removes the rows it completes, updating the
+     * features of the touched rows and columns only. The piece is assumed to fit.
+     *
+     * @param shape the piece's shape
+     * @param x the column of the shape matrix origin
+     * @param y the row of the shape matrix origin
+     * @return the number of rows cleared
+     */
+    public int place(BrickShape shape, int x, int y) {
+        long touchedColumns = 0L;
+        long fullRows = 0L;
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            int mask = shape.getRowMask(r);
+            int row = y + r;
+            if (mask == 0 || row < 0 || row >= rows) {
+                continue;
+            }
+            int shifted = (x >= 0 ? mask << x : mask >>> -x) & fullRowMask;
+            rowMasks[row] |= shifted;
+            hash ^= ZobristKeys.row(row, shifted);
+            for (int bits = shifted; bits != 0; bits &= bits - 1) {
+                int col = Integer.numberOfTrailingZeros(bits);
+                columnMasks[col] |= 1L << row;
+                touchedColumns |= 1L << col;
+            }
+            if (rowMasks[row] == fullRowMask) {
+                fullRows |= 1L << row;
+            }
+            updateRowTransitions(row);
+        }
+
+        linesCleared = Long.bitCount(fullRows);
+        if (linesCleared > 0) {
+            removeRows(fullRows);
+            for (int col = 0; col < columns; col++) {
+                updateColumn(col);
+            }
+        } else {
+            for (long bits = touchedColumns; bits != 0; bits &= bits - 1) {
+                updateColumn(Long.numberOfTrailingZeros(bits));
+            }
+        }
+        updateSurface();
+        return linesCleared;
+    }
+
+    /**
+     * Scores a placement as if the piece were merged, without changing this board.
+     *
+     * @param shape the piece's shape
+     * @param x the column of the shape matrix origin
+     * @param y the row of the shape matrix origin
+     * @param weights one weight per {@link Feature}, in declaration order
+     * @return the weighted sum of the features after the placement
+     */
+    public double scorePlacement(BrickShape shape, int x, int y, double[] weights) {
+        if (probe == null) {
+            probe = new BoardFeatures(rows, columns);
+        }
+        probe.copyFrom(this);
+        probe.place(shape, x, y);
+        return probe.score(weights);
+    }
+
+    /**
+     * Computes the weighted sum of the current features.
+     *
+     * @param weights one weight per {@link Feature}, in declaration order
+     * @return the score
+     */
+    public double score(double[] weights) {
+        if (weights.length != FEATURES.length) {
+            throw new IllegalArgumentException("Expected " + FEATURES.length + " weights, got " + weights.length);
+        }
+        double score = 0;
+        for (int i = 0; i < FEATURES.length; i++) {
+            score += weights[i] * get(FEATURES[i]);
+        }
+        return score;
+    }
+
+    public int get(Feature feature) {
+        switch (feature) {
+            case AGGREGATE_HEIGHT: return aggregateHeight;
+            case HOLES: return totalHoles;
+            case BUMPINESS: return bumpiness;
+            case ROW_TRANSITIONS: return totalRowTransitions;
+            case COLUMN_TRANSITIONS: return totalColumnTransitions;
+            case WELLS: return wells;
+            case LINES_CLEARED: return linesCleared;
+            default: throw new IllegalArgumentException("Unknown feature " + feature);
+        }
+    }
+
+    /**
+     * Gets the Zobrist hash of the settled cells, see {@link ZobristKeys}.
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getColumnHeight(int column) {
+        return heights[column];
+    }
+
+    /**
+     * Gets the occupancy of a row as a bitmask, bit c set when column c is filled.
+     */
+    public int getRowMask(int row) {
+        return rowMasks[row];
+    }
+
+    /**
+     * Drops full rows from both bitboards. Rows above each cleared row move down by one.
+     */
+    private void removeRows(long fullRows) {
+        int destination = rows - 1;
+        for (int row = rows - 1; row >= 0; row--) {
+            if ((fullRows & (1L << row)) != 0) {
+                hash ^= ZobristKeys.row(row, fullRowMask);
+            } else {
+                if (destination != row) {
+                    hash ^= ZobristKeys.row(row, rowMasks[row]) ^ ZobristKeys.row(destination, rowMasks[row]);
+                }
+                rowMasks[destination] = rowMasks[row];
+                rowTransitions[destination] = rowTransitions[row];
+                destination--;
+            }
+        }
+        for (int row = destination; row >= 0; row--) {
+            rowMasks[row] = 0;
+            rowTransitions[row] = 2; // Both walls against an empty row
+        }
+        // A full row has no transitions, so only the new empty rows add to the total
+        totalRowTransitions += 2 * Long.bitCount(fullRows);
+
+        for (int col = 0; col < columns; col++) {
+            long mask = columnMasks[col];
+            // Ascending order: removing row r leaves the indices of rows below it unchanged
+            for (long bits = fullRows; bits != 0; bits &= bits - 1) {
+                int row = Long.numberOfTrailingZeros(bits);
+                long above = mask & ((1L << row) - 1);
+                long below = mask & ~((1L << (row + 1)) - 1);
+                mask = (above << 1) | below;
+            }
+            columnMasks[col] = mask;
+        }
+    }
+
+    private void updateRowTransitions(int row) {
+        // Walls on both sides count as filled
+        int walled = rowMasks[row] << 1 | 1 | 1 << (columns + 1);
+        int transitions = Integer.bitCount((walled ^ (walled >>> 1)) & ((1 << (columns + 1)) - 1));
+        totalRowTransitions += transitions - rowTransitions[row];
+        rowTransitions[row] = transitions;
+    }
+
+    private void updateColumn(int col) {
+        long mask = columnMasks[col];
+        int height = mask == 0 ? 0 : rows - Long.numberOfTrailingZeros(mask);
+        int holes = height - Long.bitCount(mask);
+        // The floor counts as filled; the open space above the board is not a transition
+        long floored = mask | 1L << rows;
+        int transitions = Long.bitCount((floored ^ (floored >>> 1)) & ((1L << rows) - 1));
+
+        aggregateHeight += height - heights[col];
+        totalHoles += holes - columnHoles[col];
+        totalColumnTransitions += transitions - columnTransitions[col];
+        heights[col] = height;
+        columnHoles[col] = holes;
+        columnTransitions[col] = transitions;
+    }
+
+    /**
+     * Recomputes bumpiness and wells from the column heights.
+     */
+    private void updateSurface() {
+        bumpiness = 0;
+        wells = 0;
+        for (int col = 0; col < columns; col++) {
+            if (col > 0) {
+                bumpiness += Math.abs(heights[col] - heights[col - 1]);
+            }
+            int left = col > 0 ? heights[col - 1] : rows;
+            int right = col < columns - 1 ? heights[col + 1] : rows;
+            int depth = Math.min(left, right) - heights[col];
+            if (depth > 0) {
+                wells += depth * (depth + 1) / 2;
+            }
+        }
+    }
+
+    /**
+     * Brings every cached per-row and per-column value in line with the masks. The
+     * updates are deltas against the cached values, so the totals stay consistent.
+     */
+    private void recomputeAll() {
+        for (int row = 0; row < rows; row++) {
+            updateRowTransitions(row);
+        }
+        for (int col = 0; col < columns; col++) {
+            updateColumn(col);
+        }
+        updateSurface();
+    }
+}
@@ -0,0 +1,127 @@
+package model;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+
+/**
+ * Immutable capture of everything a {@link Board} needs to resume a game: the settled
+ * cells, the falling brick, hold state, the upcoming bricks, score, skill points, power-up
+ * inventory and pending garbage. Created by {@link Board#snapshot()} and applied with
+ * {@link Board#restore(BoardSnapshot)}.
+ * <p>
+ * Row arrays are never written after capture, so consecutive snapshots of the same board
+ * share every row that did not change between them. A snapshot of a 25x10 game where one
+ * brick was placed since the previous one costs a row pointer array plus the few rows the
+ * brick touched, a few hundred bytes.
+ *
+ * @author COMP2042 Coursework
+ */
+public final class BoardSnapshot {
+
+    final int[][] rows;
+    final int pieceState;
+    final Brick currentBrick;
+    final Brick heldBrick;
+    final boolean canHold;
+    final boolean bombPiece;
+    // A private copy that is never advanced; restoring hands out a fresh copy of it
+    final BrickGenerator brickGenerator;
+    final int score;
+    final PowerUpManager.State powerUps;
+    final int[] garbage;
+
+    BoardSnapshot(int[][] rows, int pieceState, Brick currentBrick, Brick heldBrick, boolean canHold,
+                  boolean bombPiece, BrickGenerator brickGenerator, int score, PowerUpManager.State powerUps,
+                  int[] garbage) {
+        this.rows = rows;
+        this.pieceState = pieceState;
+        this.currentBrick = currentBrick;
+        this.heldBrick = heldBrick;
+        this.canHold = canHold;
+        this.bombPiece = bombPiece;
+        this.brickGenerator = brickGenerator;
+        this.score = score;
+        this.powerUps = powerUps;
+        this.garbage = garbage;
+    }
+
+    public int getRows() {
+        return rows.length;
+    }
+
+    public int getColumns() {
+        return rows.length == 0 ? 0 : rows[0].length;
+    }
+
+    /**
+     * Gets a settled cell of the captured board.
+     *
+     * @param row the row, 0 being the top
+     * @param column the column
+     * @return the cell value, 0 when empty
+     */
+    public int getCell(int row, int column) {
+        return rows[row][column];
+    }
+
+    /**
+     * Gets the packed state of the falling brick at capture time.
+     *
+     * @return the state as packed by {@link PieceState}
+     */
+    public int getPieceState() {
+        return pieceState;
+    }
+
+    public Brick getCurrentBrick() {
+        return currentBrick;
+    }
+
+    /**
+     * Gets the brick in the hold slot at capture time.
+     *
+     * @return the held brick, or null if nothing was held
+     */
+    public Brick getHeldBrick() {
+        return heldBrick;
+    }
+
+    public boolean canHold() {
+        return canHold;
+    }
+
+    /**
+     * Gets how many upcoming bricks were visible at capture time.
+     *
+     * @return the preview depth of the captured generator
+     */
+    public int getPreviewSize() {
+        return brickGenerator.getPreviewSize();
+    }
+
+    /**
+     * Gets an upcoming brick as it was queued at capture time.
+     *
+     * @param index the position in the preview queue, 0 being the next brick to spawn
+     * @return the upcoming brick
+     */
+    public Brick getPreviewBrick(int index) {
+        return brickGenerator.getPreviewBrick(index);
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Checks whether two snapshots hold the same settled row at the given index without
+     * comparing cells, which is how callers can see the sharing between snapshots.
+     *
+     * @param other another snapshot of a board with the same dimensions
+     * @param row the row to compare
+     * @return true if both snapshots reference the same row array
+     */
+    public boolean sharesRow(BoardSnapshot other, int row) {
+        return rows[row] == other.rows[row];
+    }
+}
@@ -2,20 +2,45 @@ package model;
 
 import view.NextShapeInfo;
 import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.util.List;
 
 public class BrickRotator {
 
     private Brick brick;
+    // Shared rotation table, fetched once per brick so per-move lookups never copy
+    private List<BrickShape> shapes;
     private int currentShape = 0;
 
+    /**
+     * Gets a copy of the next rotation. Kept for callers of the matrix API; the boards
+     * test rotations through {@link #getNextShapeIndex()} and {@link #getBrickShape(int)},
+     * which do not allocate.
+     */
     public NextShapeInfo getNextShape() {
-        int nextShape = currentShape;
-        nextShape = (++nextShape) % brick.getShapeMatrix().size();
-        return new NextShapeInfo(brick.getShapeMatrix().get(nextShape), nextShape);
+        int nextShape = getNextShapeIndex();
+        return new NextShapeInfo(shapes.get(nextShape).toMatrix(), nextShape);
+    }
+
+    public int getNextShapeIndex() {
+        return (currentShape + 1) % shapes.size();
+    }
+
+    public int getShapeCount() {
+        return shapes.size();
+    }
+
+    public BrickShape getBrickShape(int index) {
+        return shapes.get(index);
+    }
+
+    public BrickShape getCurrentBrickShape() {
+        return shapes.get(currentShape);
     }
 
     public int[][] getCurrentShape() {
-        return brick.getShapeMatrix().get(currentShape);
+        return shapes.get(currentShape).toMatrix();
     }
 
     public void setCurrentShape(int currentShape) {
@@ -24,6 +49,7 @@ public class BrickRotator {
 
     public void setBrick(Brick brick) {
         this.brick = brick;
+        this.shapes = brick.getShapes();
         currentShape = 0;
     }
 
@@ -0,0 +1,189 @@
+package model;
+
+import view.ClearRow;
+
+/**
+ * Headless core of the game rules.
+ * Drives a {@link Board} through falling, locking, line clearing, scoring, skill points
+ * and power-ups without touching any UI toolkit, so whole games can be simulated in a
+ * plain JVM (bots, tuning runs, CI). The GUI controller delegates to an engine and only
+ * adds rendering on top of the results.
+ *
+ * @author COMP2042 Coursework
+ */
+public final class GameEngine {
+
+    private final Board board;
+    private boolean gameOver = false;
+
+    /**
+     * Constructs a new GameEngine on the given board and spawns the first brick.
+     *
+     * @param board the board implementation to play on
+     */
+    public GameEngine(Board board) {
+        this.board = board;
+        board.createNewBrick();
+    }
+
+    /**
+     * Moves the current brick down one row. If it cannot move, it is locked: merged to the
+     * background, full rows are cleared and scored, and the next brick is spawned.
+     *
+     * @param userInitiated true for a soft drop by the player, which earns 1 point per row
+     * @return the line clear result when the brick was locked, or null if it moved
+     */
+    public ClearRow moveDown(boolean userInitiated) {
+        if (board.moveBrickDown()) {
+            if (userInitiated) {
+                award(1);
+            }
+            return null;
+        }
+        board.mergeBrickToBackground();
+        return lock();
+    }
+
+    /**
+     * Drops the current brick to the lowest free position and locks it. Awards 2 points
+     * per row dropped on top of the line clear bonus.
+     *
+     * @return the line clear result
+     */
+    public ClearRow hardDrop() {
+        // Calculate drop distance before dropping for scoring
+        int dropDistance = board.getHardDropDistance();
+        if (board.hardDropBrick()) {
+            award(dropDistance * 2);
+        }
+        board.mergeBrickToBackground();
+        return lock();
+    }
+
+    /**
+     * Clears full rows, scores them, pushes in any pending garbage and spawns the next
+     * brick after a merge.
+     */
+    private ClearRow lock() {
+        ClearRow clearRow = board.clearRows();
+        if (clearRow.getLinesRemoved() > 0) {
+            award(clearRow.getScoreBonus());
+        }
+        boolean toppedOut = board.applyPendingGarbage();
+        gameOver = board.createNewBrick() || toppedOut;
+        return clearRow;
+    }
+
+    private void award(int points) {
+        board.getScore().add(points);
+        // Skill points are earned at 1 point per 10 score
+        board.getPowerUpManager().awardSkillPoints(points);
+    }
+
+    public boolean moveLeft() {
+        return board.moveBrickLeft();
+    }
+
+    public boolean moveRight() {
+        return board.moveBrickRight();
+    }
+
+    public boolean rotateLeft() {
+        return board.rotateLeftBrick();
+    }
+
+    public boolean rotateRight() {
+        return board.rotateRightBrick();
+    }
+
+    public boolean hold() {
+        return board.holdBrick();
+    }
+
+    /**
+     * Queues garbage rows sent by an opponent. They are pushed in from the bottom the next
+     * time a brick locks, and can end the game if they push the stack off the top.
+     *
+     * @param lines the number of garbage rows
+     * @param holeColumn the column left empty in every garbage row
+     */
+    public void receiveGarbage(int lines, int holeColumn) {
+        board.queueGarbage(lines, holeColumn);
+    }
+
+    /**
+     * Activates a power-up if available in inventory. Row clearer and bomb piece act on
+     * the board; slow motion only affects the fall speed, which is up to the caller.
+     *
+     * @param powerUp the power-up to activate
+     * @return true if activation was successful, false if the power-up was not available
+     */
+    public boolean activatePowerUp(PowerUp powerUp) {
+        if (!board.getPowerUpManager().usePowerUp(powerUp)) {
+            return false;
+        }
+        switch (powerUp) {
+            case ROW_CLEARER:
+                // Clear bottom 3 rows
+                return board.clearRowsPowerUp(3);
+            case SLOW_MOTION:
+                return true;
+            case BOMB_PIECE:
+                // The bomb will explode when the piece lands
+                board.setBombPiece(true);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Purchases a power-up using skill points.
+     *
+     * @param powerUp the power-up to purchase
+     * @return true if purchase was successful, false if insufficient skill points
+     */
+    public boolean purchasePowerUp(PowerUp powerUp) {
+        return board.getPowerUpManager().purchasePowerUp(powerUp);
+    }
+
+    /**
+     * Resets the board, score and power-ups for a fresh game.
+     */
+    public void newGame() {
+        board.newGame();
+        gameOver = false;
+    }
+
+    /**
+     * Puts the game back into a captured state, e.g. to rewind in practice mode. A game
+     * that was over is playable again afterwards.
+     *
+     * @param snapshot a snapshot taken from this engine's board
+     */
+    public void restore(BoardSnapshot snapshot) {
+        board.restore(snapshot);
+        gameOver = false;
+    }
+
+    /**
+     * Checks whether the last spawned brick overlapped the stack.
+     *
+     * @return true once the game is over, until {@link #newGame()} is called
+     */
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    public Board getBoard() {
+        return board;
+    }
+
+    public Score getScore() {
+        return board.getScore();
+    }
+
+    public PowerUpManager getPowerUpManager() {
+        return board.getPowerUpManager();
+    }
+}
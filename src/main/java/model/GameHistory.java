@@ -0,0 +1,69 @@
+package model;
+
+/**
+ * Unlimited undo history of a game, one {@link BoardSnapshot} per locked piece.
+ * Entries form a persistent linked list: each entry is immutable and points at the one
+ * before it, so recording and rewinding are O(1) pointer moves and never copy earlier
+ * entries. Since consecutive snapshots share unchanged rows, each entry costs about the
+ * rows its piece changed.
+ *
+ * @author COMP2042 Coursework
+ */
+public final class GameHistory {
+
+    private static final class Entry {
+        private final BoardSnapshot snapshot;
+        private final Entry previous;
+        private final int size;
+
+        private Entry(BoardSnapshot snapshot, Entry previous) {
+            this.snapshot = snapshot;
+            this.previous = previous;
+            this.size = previous == null ? 1 : previous.size + 1;
+        }
+    }
+
+    private Entry head;
+
+    /**
+     * Adds the current state of a game as the newest entry.
+     *
+     * @param snapshot the state to record
+     */
+    public void record(BoardSnapshot snapshot) {
+        head = new Entry(snapshot, head);
+    }
+
+    /**
+     * Drops the newest entries and returns the state to go back to.
+     * The oldest entry is never dropped, so a game can be rewound to its start but no further.
+     *
+     * @param pieces how many recorded pieces to go back
+     * @return the state to restore, or null if there is nothing to rewind
+     */
+    public BoardSnapshot rewind(int pieces) {
+        if (head == null || head.previous == null || pieces <= 0) {
+            return null;
+        }
+        for (int i = 0; i < pieces && head.previous != null; i++) {
+            head = head.previous;
+        }
+        return head.snapshot;
+    }
+
+    /**
+     * Gets the number of recorded entries, including the starting state.
+     *
+     * @return the history length
+     */
+    public int size() {
+        return head == null ? 0 : head.size;
+    }
+
+    /**
+     * Forgets every entry, e.g. when a new game starts.
+     */
+    public void clear() {
+        head = null;
+    }
+}
@@ -0,0 +1,95 @@
+package model;
+
+/**
+ * FIFO of garbage batches waiting to be pushed into a board, one (lines, hole column)
+ * pair per batch. Batches are packed into a growable ring of ints, so queueing and
+ * draining allocate nothing once the ring has reached its working size.
+ *
+ * @author COMP2042 Coursework
+ */
+final class GarbageQueue {
+
+    private static final int[] NO_BATCHES = new int[0];
+
+    private int[] entries = new int[8];
+    private int head = 0;
+    private int size = 0;
+    private int pendingLines = 0;
+
+    void add(int lines, int holeColumn) {
+        if (size == entries.length) {
+            int[] grown = new int[entries.length * 2];
+            for (int i = 0; i < size; i++) {
+                grown[i] = entries[(head + i) % entries.length];
+            }
+            entries = grown;
+            head = 0;
+        }
+        entries[(head + size) % entries.length] = lines << 8 | holeColumn;
+        size++;
+        pendingLines += lines;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Gets the total number of rows in all queued batches.
+     */
+    int getPendingLines() {
+        return pendingLines;
+    }
+
+    /**
+     * Removes the oldest batch.
+     *
+     * @return the batch packed as {@code lines << 8 | holeColumn}, see {@link #lines(int)}
+     *         and {@link #holeColumn(int)}
+     */
+    int poll() {
+        int entry = entries[head];
+        head = (head + 1) % entries.length;
+        size--;
+        pendingLines -= lines(entry);
+        return entry;
+    }
+
+    /**
+     * Copies the queued batches, oldest first, in the packed form returned by {@link #poll()}.
+     */
+    int[] toArray() {
+        if (size == 0) {
+            return NO_BATCHES;
+        }
+        int[] copy = new int[size];
+        for (int i = 0; i < size; i++) {
+            copy[i] = entries[(head + i) % entries.length];
+        }
+        return copy;
+    }
+
+    /**
+     * Replaces the queue with batches copied by {@link #toArray()}.
+     */
+    void restore(int[] batches) {
+        clear();
+        for (int entry : batches) {
+            add(lines(entry), holeColumn(entry));
+        }
+    }
+
+    void clear() {
+        head = 0;
+        size = 0;
+        pendingLines = 0;
+    }
+
+    static int lines(int entry) {
+        return entry >>> 8;
+    }
+
+    static int holeColumn(int entry) {
+        return entry & 0xFF;
+    }
+}
@@ -0,0 +1,20 @@
+package model;
+
+/**
+ * Listener notified when an integer counter of the game model changes, such as the
+ * score or the skill points. Keeps the model free of any UI toolkit: the GUI layer
+ * adapts these callbacks to its own observable properties.
+ * 
+ * @author COMP2042 Coursework
+ */
+@FunctionalInterface
+public interface IntValueListener {
+
+    /**
+     * Called after the value has changed.
+     * 
+     * @param oldValue the previous value
+     * @param newValue the current value
+     */
+    void valueChanged(int oldValue, int newValue);
+}
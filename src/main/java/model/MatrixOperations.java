@@ -31,7 +31,7 @@ public class MatrixOperations {
 
     private static boolean checkOutOfBound(int[][] matrix, int targetX, int targetY) {
         boolean returnValue = true;
-        if (targetX >= 0 && targetY < matrix.length && targetX < matrix[targetY].length) {
+        if (targetX >= 0 && targetY >= 0 && targetY < matrix.length && targetX < matrix[targetY].length) {
             returnValue = false;
         }
         return returnValue;
@@ -69,6 +69,7 @@ public class MatrixOperations {
         int[][] tmp = new int[matrix.length][matrix[0].length];
         Deque<int[]> newRows = new ArrayDeque<>();
         List<Integer> clearedRows = new ArrayList<>();
+        long clearedRowMask = 0L;
 
         for (int i = 0; i < matrix.length; i++) {
             int[] tmpRow = new int[matrix[i].length];
@@ -81,6 +82,9 @@ public class MatrixOperations {
             }
             if (rowToClear) {
                 clearedRows.add(i);
+                if (i < Long.SIZE) {
+                    clearedRowMask |= 1L << i;
+                }
             } else {
                 newRows.add(tmpRow);
             }
@@ -94,7 +98,7 @@ public class MatrixOperations {
             }
         }
         int scoreBonus = 50 * clearedRows.size() * clearedRows.size();
-        return new ClearRow(clearedRows.size(), tmp, scoreBonus);
+        return new ClearRow(clearedRows.size(), tmp, scoreBonus, clearedRowMask);
     }
 
     public static List<int[][]> deepCopyList(List<int[][]> list){
@@ -0,0 +1,76 @@
+package model;
+
+/**
+ * Packs the state of a falling piece into a single {@code int}: brick type, rotation index
+ * and board position. Packed states cost nothing to create, compare with {@code ==} and can
+ * be used directly as keys of hash-based caches, which matters when a search generates
+ * hundreds of candidate placements per piece.
+ * <p>
+ * Layout, from the most significant byte: type id (0-255), rotation (0-255),
+ * x as a signed byte and y as a signed byte, so coordinates range from -128 to 127.
+ *
+ * @author COMP2042 Coursework
+ */
+public final class PieceState {
+
+    private PieceState() {
+    }
+
+    /**
+     * Packs a piece state.
+     *
+     * @param typeId the brick type, see {@link com.comp2042.logic.bricks.Brick#getTypeId()}
+     * @param rotation the rotation index
+     * @param x the column of the brick matrix origin
+     * @param y the row of the brick matrix origin
+     * @return the packed state
+     */
+    public static int of(int typeId, int rotation, int x, int y) {
+        return (typeId & 0xFF) << 24 | (rotation & 0xFF) << 16 | (x & 0xFF) << 8 | (y & 0xFF);
+    }
+
+    public static int typeId(int state) {
+        return state >>> 24;
+    }
+
+    public static int rotation(int state) {
+        return (state >>> 16) & 0xFF;
+    }
+
+    public static int x(int state) {
+        return (byte) (state >>> 8);
+    }
+
+    public static int y(int state) {
+        return (byte) state;
+    }
+
+    /**
+     * Returns the state moved to a new position, keeping type and rotation.
+     */
+    public static int withPosition(int state, int x, int y) {
+        return (state & 0xFFFF0000) | (x & 0xFF) << 8 | (y & 0xFF);
+    }
+
+    /**
+     * Returns the state with a new rotation, keeping type and position.
+     */
+    public static int withRotation(int state, int rotation) {
+        return (state & 0xFF00FFFF) | (rotation & 0xFF) << 16;
+    }
+
+    /**
+     * Returns the state shifted by the given offsets.
+     */
+    public static int moved(int state, int dx, int dy) {
+        return withPosition(state, x(state) + dx, y(state) + dy);
+    }
+
+    /**
+     * Formats a packed state for logs and test messages.
+     */
+    public static String toString(int state) {
+        return "PieceState[type=" + typeId(state) + ", rotation=" + rotation(state)
+                + ", x=" + x(state) + ", y=" + y(state) + "]";
+    }
+}
@@ -0,0 +1,408 @@
+package model;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Finds every position where the falling piece of a game can lock, together with the
+ * inputs that take it there. A breadth-first search runs over packed
+ * {@link PieceState}s using the boards' own rules: one-column shifts, SRS rotations with
+ * kicks from {@link RotationSystem}, and soft drops that take the piece down until it
+ * rests. Like most bots, the search does not stop a piece partway through a fall; slides
+ * and spins under overhangs are still found, since they start from resting positions.
+ * Collision tests work on row occupancy masks built once per call, like
+ * {@link BitboardBoard}, so nothing is copied or mutated while exploring.
+ * <p>
+ * Placements that cover the same cells are reported once, whichever rotation reaches
+ * them first: the O piece yields one placement per column, S, Z and I one per distinct
+ * orientation and column. When the snapshot allows holding, the held piece (or the next
+ * piece, if nothing is held yet) is searched too and its paths start with
+ * {@link Input#HOLD}.
+ * <p>
+ * An enumerator is meant to be reused. Visited-state bitsets, BFS queues and result
+ * buffers are allocated once and cleared on each call, so a call on a 25x10 board
+ * allocates nothing and takes microseconds. Results stay valid until the next call.
+ * Instances are not thread-safe; use one per thread.
+ *
+ * @author COMP2042 Coursework
+ */
+public final class PlacementEnumerator {
+
+    /**
+     * A single player input, as used in placement paths. {@code SOFT_DROP} stands for
+     * moving down repeatedly until the piece rests, without locking it.
+     */
+    public enum Input {
+        HOLD, LEFT, RIGHT, ROTATE_LEFT, ROTATE_RIGHT, SOFT_DROP
+    }
+
+    private static final Input[] INPUTS = Input.values();
+    private static final byte NO_INPUT = -1;
+    // Room around the board for shape matrix origins that sit outside it
+    private static final int MARGIN = 4;
+
+    private final int rows;
+    private final int columns;
+    private final int fullRowMask;
+    private final int[] rowMasks;
+    // First row with a settled cell; shapes entirely above it can only hit the walls
+    private int surfaceRow;
+    private final Search currentSearch;
+    private final Search holdSearch;
+
+    // Results of the last call, in discovery order
+    private int count = 0;
+    private int[] resultStates = new int[64];
+    private int[] resultIndices = new int[64];
+    private boolean[] resultHold = new boolean[64];
+    // Per result: top board row, then one occupancy mask per row of the brick matrix
+    private int[] footprints = new int[64 * 5];
+    private int footprintStride = 5;
+
+    /**
+     * Constructs an enumerator for boards of the given size.
+     *
+     * @param rows the number of rows of the board
+     * @param columns the number of columns of the board (at most 31)
+     */
+    public PlacementEnumerator(int rows, int columns) {
+        if (columns <= 0 || columns > 31) {
+            throw new IllegalArgumentException("Placement search supports 1 to 31 columns, got " + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.fullRowMask = (1 << columns) - 1;
+        this.rowMasks = new int[rows];
+        this.currentSearch = new Search();
+        this.holdSearch = new Search();
+    }
+
+    /**
+     * Enumerates the lock positions reachable from a snapshot's falling piece, and from
+     * the hold piece if holding is allowed.
+     *
+     * @param snapshot the game state to search from
+     * @return the number of distinct placements found
+     */
+    public int enumerate(BoardSnapshot snapshot) {
+        if (snapshot.getRows() != rows || snapshot.getColumns() != columns) {
+            throw new IllegalArgumentException("Snapshot is " + snapshot.getRows() + "x" + snapshot.getColumns()
+                    + ", enumerator is " + rows + "x" + columns);
+        }
+        for (int row = 0; row < rows; row++) {
+            int mask = 0;
+            int[] cells = snapshot.rows[row];
+            for (int col = 0; col < columns; col++) {
+                if (cells[col] != 0) {
+                    mask |= 1 << col;
+                }
+            }
+            rowMasks[row] = mask;
+        }
+
+        Brick holdBrick = null;
+        if (snapshot.canHold) {
+            holdBrick = snapshot.heldBrick != null ? snapshot.heldBrick : snapshot.brickGenerator.getNextBrick();
+        }
+        return search(snapshot.currentBrick, snapshot.pieceState, holdBrick);
+    }
+
+    /**
+     * Enumerates the lock positions of a freshly spawned piece on a hypothetical board,
+     * which is how bots search beyond the current piece without building a game state.
+     *
+     * @param board the settled cells, as bitboards of the same size as this enumerator
+     * @param current the piece to place, starting from its spawn position
+     * @param holdBrick the piece a hold would bring in, or null to search without holding
+     * @return the number of distinct placements found
+     */
+    public int enumerate(BoardFeatures board, Brick current, Brick holdBrick) {
+        if (board.getRows() != rows || board.getColumns() != columns) {
+            throw new IllegalArgumentException("Board is " + board.getRows() + "x" + board.getColumns()
+                    + ", enumerator is " + rows + "x" + columns);
+        }
+        for (int row = 0; row < rows; row++) {
+            rowMasks[row] = board.getRowMask(row);
+        }
+        return search(current, spawnState(current), holdBrick);
+    }
+
+    private int search(Brick current, int startState, Brick holdBrick) {
+        surfaceRow = 0;
+        while (surfaceRow < rows && rowMasks[surfaceRow] == 0) {
+            surfaceRow++;
+        }
+        footprintStride = 1 + Math.max(maxShapeRows(current), maxShapeRows(holdBrick));
+        count = 0;
+        currentSearch.run(current, startState, false);
+        if (holdBrick != null) {
+            holdSearch.run(holdBrick, spawnState(holdBrick), true);
+        }
+        return count;
+    }
+
+    private static int spawnState(Brick brick) {
+        return PieceState.of(brick.getTypeId(), 0, SimpleBoard.SPAWN_X, SimpleBoard.SPAWN_Y);
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    public int getPlacementCount() {
+        return count;
+    }
+
+    /**
+     * Gets the packed state of the piece at a placement, i.e. where it locks.
+     *
+     * @param placement the placement index, from 0 to {@link #getPlacementCount()} - 1
+     * @return the state as packed by {@link PieceState}
+     */
+    public int getPlacementState(int placement) {
+        checkPlacement(placement);
+        return resultStates[placement];
+    }
+
+    /**
+     * Checks whether a placement is made with the hold piece.
+     */
+    public boolean usesHold(int placement) {
+        checkPlacement(placement);
+        return resultHold[placement];
+    }
+
+    /**
+     * Builds the shortest input sequence that takes the piece from its starting position to
+     * a placement. Once the inputs are applied the piece rests at the placement, ready to be
+     * locked by a hard drop or the next gravity step.
+     *
+     * @param placement the placement index
+     * @return the inputs in order, starting with {@link Input#HOLD} for hold placements
+     */
+    public List<Input> getPath(int placement) {
+        checkPlacement(placement);
+        Search search = resultHold[placement] ? holdSearch : currentSearch;
+        List<Input> path = new ArrayList<>();
+        for (int index = resultIndices[placement]; index >= 0; index = search.parent[index]) {
+            if (search.input[index] != NO_INPUT) {
+                path.add(INPUTS[search.input[index]]);
+            }
+        }
+        Collections.reverse(path);
+        return path;
+    }
+
+    private void checkPlacement(int placement) {
+        if (placement < 0 || placement >= count) {
+            throw new IndexOutOfBoundsException("Placement " + placement + " out of range for " + count + " placements");
+        }
+    }
+
+    private static int maxShapeRows(Brick brick) {
+        int max = 0;
+        if (brick != null) {
+            for (BrickShape shape : brick.getShapes()) {
+                max = Math.max(max, shape.getRows());
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Tests a shape against the walls, floor and settled cells one row mask at a time.
+     */
+    private boolean collides(BrickShape shape, int x, int y) {
+        if (y + shape.getMinRow() >= 0 && y + shape.getMaxRow() < surfaceRow) {
+            return x + shape.getMinColumn() < 0 || x + shape.getMaxColumn() >= columns;
+        }
+        for (int r = shape.getMinRow(); r <= shape.getMaxRow(); r++) {
+            int mask = shape.getRowMask(r);
+            if (mask == 0) {
+                continue;
+            }
+            int boardRow = y + r;
+            if (boardRow < 0 || boardRow >= rows) {
+                return true;
+            }
+            // Cells pushed past column 0 are lost by the shift, so check for them first
+            if (x < 0 && (mask & ((1 << -x) - 1)) != 0) {
+                return true;
+            }
+            int shifted = shift(mask, x);
+            if ((shifted & ~fullRowMask) != 0 || (shifted & rowMasks[boardRow]) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int shift(int mask, int x) {
+        return x >= 0 ? mask << x : mask >>> -x;
+    }
+
+    /**
+     * Records a lock position unless another placement already covers the same cells.
+     */
+    private void addPlacement(BrickShape shape, int state, int index, boolean hold) {
+        int x = PieceState.x(state);
+        int topRow = PieceState.y(state) + shape.getMinRow();
+        int height = shape.getMaxRow() - shape.getMinRow() + 1;
+        for (int other = 0; other < count; other++) {
+            int base = other * footprintStride;
+            if (footprints[base] != topRow) {
+                continue;
+            }
+            boolean same = true;
+            for (int r = 0; r < footprintStride - 1 && same; r++) {
+                int mask = r < height ? shift(shape.getRowMask(shape.getMinRow() + r), x) : 0;
+                same = footprints[base + 1 + r] == mask;
+            }
+            if (same) {
+                return;
+            }
+        }
+
+        if (count == resultStates.length) {
+            int capacity = count * 2;
+            resultStates = Arrays.copyOf(resultStates, capacity);
+            resultIndices = Arrays.copyOf(resultIndices, capacity);
+            resultHold = Arrays.copyOf(resultHold, capacity);
+        }
+        if ((count + 1) * footprintStride > footprints.length) {
+            footprints = Arrays.copyOf(footprints, Math.max(footprints.length * 2, (count + 1) * footprintStride));
+        }
+        int base = count * footprintStride;
+        footprints[base] = topRow;
+        for (int r = 0; r < footprintStride - 1; r++) {
+            footprints[base + 1 + r] = r < height ? shift(shape.getRowMask(shape.getMinRow() + r), x) : 0;
+        }
+        resultStates[count] = state;
+        resultIndices[count] = index;
+        resultHold[count] = hold;
+        count++;
+    }
+
+    /**
+     * BFS buffers for one piece. States are indexed by rotation, then x, then y, each with
+     * a margin so shape origins left of or above the board still get a slot.
+     */
+    private final class Search {
+        private final int xSpan = columns + 2 * MARGIN;
+        private final int ySpan = rows + 2 * MARGIN;
+        private int rotationCapacity = 0;
+        private long[] visited;
+        private int[] parent;
+        private byte[] input;
+        private int[] queue;
+
+        private void ensureCapacity(int rotations) {
+            if (rotations <= rotationCapacity) {
+                return;
+            }
+            rotationCapacity = Math.max(4, rotations);
+            int states = rotationCapacity * xSpan * ySpan;
+            visited = new long[(states + 63) >>> 6];
+            parent = new int[states];
+            input = new byte[states];
+            queue = new int[states];
+        }
+
+        private int index(int rotation, int x, int y) {
+            int column = x + MARGIN;
+            int row = y + MARGIN;
+            if (column < 0 || column >= xSpan || row < 0 || row >= ySpan) {
+                return -1;
+            }
+            return (rotation * xSpan + column) * ySpan + row;
+        }
+
+        private void run(Brick brick, int startState, boolean hold) {
+            List<BrickShape> shapes = brick.getShapes();
+            int shapeCount = shapes.size();
+            int typeId = PieceState.typeId(startState);
+            int rotationCount = RotationSystem.rotationCount(typeId, shapeCount);
+            ensureCapacity(rotationCount);
+            Arrays.fill(visited, 0L);
+
+            int startIndex = index(PieceState.rotation(startState), PieceState.x(startState), PieceState.y(startState));
+            if (startIndex < 0 || collides(shapes.get(PieceState.rotation(startState) % shapeCount),
+                    PieceState.x(startState), PieceState.y(startState))) {
+                return; // The piece cannot even appear
+            }
+            int head = 0;
+            int tail = 0;
+            visit(startIndex, -1, hold ? (byte) Input.HOLD.ordinal() : NO_INPUT);
+            queue[tail++] = startState;
+
+            while (head < tail) {
+                int state = queue[head++];
+                int rotation = PieceState.rotation(state);
+                int x = PieceState.x(state);
+                int y = PieceState.y(state);
+                int index = index(rotation, x, y);
+                BrickShape shape = shapes.get(rotation % shapeCount);
+
+                int restY = y;
+                while (!collides(shape, x, restY + 1)) {
+                    restY++;
+                }
+                if (restY == y) {
+                    addPlacement(shape, state, index, hold);
+                } else {
+                    tail = push(null, state, index, x, restY, rotation, Input.SOFT_DROP, tail);
+                }
+                tail = push(shape, state, index, x - 1, y, rotation, Input.LEFT, tail);
+                tail = push(shape, state, index, x + 1, y, rotation, Input.RIGHT, tail);
+
+                for (int turn = 0; turn < 2; turn++) {
+                    boolean clockwise = turn == 1;
+                    int to = RotationSystem.rotate(rotation, rotationCount, clockwise);
+                    BrickShape rotated = shapes.get(to % shapeCount);
+                    int[] kicks = RotationSystem.kicks(typeId, shapeCount, rotation, to);
+                    for (int i = 0; i < kicks.length; i += 2) {
+                        int testX = x + kicks[i];
+                        int testY = y + kicks[i + 1];
+                        if (!collides(rotated, testX, testY)) {
+                            // Like the boards, the first kick that fits is taken
+                            tail = push(null, state, index, testX, testY, to,
+                                    clockwise ? Input.ROTATE_RIGHT : Input.ROTATE_LEFT, tail);
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+
+        /**
+         * Queues a neighbour state if it is new and, when a shape is given, fits.
+         */
+        private int push(BrickShape shape, int from, int fromIndex, int x, int y, int rotation, Input move, int tail) {
+            int index = index(rotation, x, y);
+            if (index < 0 || (visited[index >>> 6] & (1L << index)) != 0) {
+                return tail;
+            }
+            if (shape != null && collides(shape, x, y)) {
+                return tail;
+            }
+            visit(index, fromIndex, (byte) move.ordinal());
+            queue[tail] = PieceState.of(PieceState.typeId(from), rotation, x, y);
+            return tail + 1;
+        }
+
+        private void visit(int index, int parentIndex, byte move) {
+            visited[index >>> 6] |= 1L << index;
+            parent[index] = parentIndex;
+            input[index] = move;
+        }
+    }
+}
@@ -1,10 +1,8 @@
 package model;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
-
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * Manages power-up purchases, inventory, and skill points economy.
@@ -14,30 +12,35 @@ import java.util.Map;
  * @author COMP2042 Coursework
  */
 public class PowerUpManager {
-    private final Map<PowerUp, Integer> powerUpInventory; // PowerUp -> quantity owned
-    private final IntegerProperty skillPoints;
+    private final int[] powerUpInventory; // Quantity owned, indexed by PowerUp ordinal
+    private int skillPoints;
+    private final List<IntValueListener> skillPointsListeners = new ArrayList<>();
     
     /**
      * Constructs a new PowerUpManager.
      * Initializes skill points to 0 and sets all power-up quantities to 0.
      */
     public PowerUpManager() {
-        this.skillPoints = new SimpleIntegerProperty(0);
-        this.powerUpInventory = new HashMap<>();
-        
-        // Initialize all power-ups with 0 quantity
-        for (PowerUp powerUp : PowerUp.values()) {
-            powerUpInventory.put(powerUp, 0);
-        }
+        this.skillPoints = 0;
+        this.powerUpInventory = new int[PowerUp.values().length];
     }
 
     /**
-     * Gets the skill points property for reactive UI binding.
+     * Registers a listener that is called whenever the skill points change.
      * 
-     * @return the IntegerProperty representing current skill points
+     * @param listener the listener to notify
      */
-    public IntegerProperty skillPointsProperty() {
-        return skillPoints;
+    public void addSkillPointsListener(IntValueListener listener) {
+        skillPointsListeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered skill points listener.
+     * 
+     * @param listener the listener to remove
+     */
+    public void removeSkillPointsListener(IntValueListener listener) {
+        skillPointsListeners.remove(listener);
     }
 
     /**
@@ -46,7 +49,17 @@ public class PowerUpManager {
      * @return the current number of skill points
      */
     public int getSkillPoints() {
-        return skillPoints.get();
+        return skillPoints;
+    }
+
+    private void setSkillPoints(int value) {
+        int old = skillPoints;
+        skillPoints = value;
+        if (old != value) {
+            for (int i = 0; i < skillPointsListeners.size(); i++) {
+                skillPointsListeners.get(i).valueChanged(old, value);
+            }
+        }
     }
 
     // Track fractional skill points (to accumulate even small scores)
@@ -66,7 +79,7 @@ public class PowerUpManager {
         // Convert fractional points to whole skill points
         int wholePoints = (int) fractionalSkillPoints;
         if (wholePoints > 0) {
-            skillPoints.set(skillPoints.get() + wholePoints);
+            setSkillPoints(skillPoints + wholePoints);
             fractionalSkillPoints -= wholePoints; // Keep the remainder
         }
     }
@@ -76,9 +89,9 @@ public class PowerUpManager {
      * @return true if purchase was successful
      */
     public boolean purchasePowerUp(PowerUp powerUp) {
-        if (skillPoints.get() >= powerUp.getCost()) {
-            skillPoints.set(skillPoints.get() - powerUp.getCost());
-            powerUpInventory.put(powerUp, powerUpInventory.get(powerUp) + 1);
+        if (skillPoints >= powerUp.getCost()) {
+            setSkillPoints(skillPoints - powerUp.getCost());
+            powerUpInventory[powerUp.ordinal()]++;
             return true;
         }
         return false;
@@ -89,8 +102,8 @@ public class PowerUpManager {
      * @return true if power-up was available and used
      */
     public boolean usePowerUp(PowerUp powerUp) {
-        if (powerUpInventory.get(powerUp) > 0) {
-            powerUpInventory.put(powerUp, powerUpInventory.get(powerUp) - 1);
+        if (powerUpInventory[powerUp.ordinal()] > 0) {
+            powerUpInventory[powerUp.ordinal()]--;
             return true;
         }
         return false;
@@ -100,18 +113,48 @@ public class PowerUpManager {
      * Get quantity of a power-up owned
      */
     public int getPowerUpQuantity(PowerUp powerUp) {
-        return powerUpInventory.get(powerUp);
+        return powerUpInventory[powerUp.ordinal()];
+    }
+
+    /**
+     * Captures skill points and inventory for a {@link BoardSnapshot}.
+     */
+    State capture() {
+        return new State(powerUpInventory.clone(), skillPoints, fractionalSkillPoints);
+    }
+
+    /**
+     * Puts back skill points and inventory captured by {@link #capture()}. Listeners are
+     * notified if the skill points change.
+     */
+    void restore(State state) {
+        System.arraycopy(state.inventory, 0, powerUpInventory, 0, powerUpInventory.length);
+        fractionalSkillPoints = state.fractionalSkillPoints;
+        setSkillPoints(state.skillPoints);
     }
 
     /**
      * Reset all power-ups (for new game)
      */
     public void reset() {
-        for (PowerUp powerUp : PowerUp.values()) {
-            powerUpInventory.put(powerUp, 0);
-        }
-        skillPoints.set(0);
+        Arrays.fill(powerUpInventory, 0);
+        setSkillPoints(0);
         fractionalSkillPoints = 0.0;
     }
+
+    /**
+     * Immutable copy of the manager's counters.
+     */
+    static final class State {
+        private final int[] inventory;
+        private final int skillPoints;
+        private final double fractionalSkillPoints;
+
+        private State(int[] inventory, int skillPoints, double fractionalSkillPoints) {
+            this.inventory = inventory;
+            this.skillPoints = skillPoints;
+            this.fractionalSkillPoints = fractionalSkillPoints;
+        }
+    }
 }
 
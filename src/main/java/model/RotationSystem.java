@@ -0,0 +1,132 @@
+package model;
+
+/**
+ * Table-driven Super Rotation System (SRS) for both rotation directions.
+ * Kick offsets for every (piece, from rotation, to rotation) are resolved once at class
+ * initialization, already converted to board coordinates (y grows downward), so a rotation
+ * only walks a small int array and tests each offset against the board.
+ * <p>
+ * Rotation indices follow the brick shape tables: index + 1 is a counter-clockwise turn.
+ * The built-in tetrominoes other than O have four shapes, each a true quarter turn of the
+ * last about the SRS centre, so I, S and Z sit one cell apart in opposite orientations and
+ * the kicks line up with the cells. The J, L, T, S and Z tables start in the SRS "2"
+ * orientation (pointing down) and I starts in "0". Bricks without a built-in type id keep
+ * the legacy horizontal kicks.
+ *
+ * @author COMP2042 Coursework
+ */
+public final class RotationSystem {
+
+    private static final int I_TYPE = 1;
+    private static final int O_TYPE = 4;
+    private static final int TYPE_COUNT = 8;
+
+    // Standard SRS offsets indexed [from][to] by SRS state (0, R=1, 2, L=3), as (dx, dy) with y up
+    private static final int[][][] JLSTZ_KICKS = new int[4][4][];
+    private static final int[][][] I_KICKS = new int[4][4][];
+
+    static {
+        JLSTZ_KICKS[0][1] = new int[]{0, 0, -1, 0, -1, 1, 0, -2, -1, -2};
+        JLSTZ_KICKS[1][0] = new int[]{0, 0, 1, 0, 1, -1, 0, 2, 1, 2};
+        JLSTZ_KICKS[1][2] = new int[]{0, 0, 1, 0, 1, -1, 0, 2, 1, 2};
+        JLSTZ_KICKS[2][1] = new int[]{0, 0, -1, 0, -1, 1, 0, -2, -1, -2};
+        JLSTZ_KICKS[2][3] = new int[]{0, 0, 1, 0, 1, 1, 0, -2, 1, -2};
+        JLSTZ_KICKS[3][2] = new int[]{0, 0, -1, 0, -1, -1, 0, 2, -1, 2};
+        JLSTZ_KICKS[3][0] = new int[]{0, 0, -1, 0, -1, -1, 0, 2, -1, 2};
+        JLSTZ_KICKS[0][3] = new int[]{0, 0, 1, 0, 1, 1, 0, -2, 1, -2};
+
+        I_KICKS[0][1] = new int[]{0, 0, -2, 0, 1, 0, -2, -1, 1, 2};
+        I_KICKS[1][0] = new int[]{0, 0, 2, 0, -1, 0, 2, 1, -1, -2};
+        I_KICKS[1][2] = new int[]{0, 0, -1, 0, 2, 0, -1, 2, 2, -1};
+        I_KICKS[2][1] = new int[]{0, 0, 1, 0, -2, 0, 1, -2, -2, 1};
+        I_KICKS[2][3] = new int[]{0, 0, 2, 0, -1, 0, 2, 1, -1, -2};
+        I_KICKS[3][2] = new int[]{0, 0, -2, 0, 1, 0, -2, -1, 1, 2};
+        I_KICKS[3][0] = new int[]{0, 0, 1, 0, -2, 0, 1, -2, -2, 1};
+        I_KICKS[0][3] = new int[]{0, 0, -1, 0, 2, 0, -1, 2, 2, -1};
+    }
+
+    private static final int[] NO_KICKS = {0, 0};
+    // Try 1 left, 1 right, 2 left, 2 right, as the boards did before SRS
+    private static final int[] LEGACY_KICKS = {0, 0, -1, 0, 1, 0, -2, 0, 2, 0};
+
+    // Board-space kicks indexed [typeId][fromRotation][toRotation]
+    private static final int[][][][] KICKS = new int[TYPE_COUNT][4][4][];
+
+    static {
+        for (int type = 1; type < TYPE_COUNT; type++) {
+            int spawnState = type == I_TYPE ? 0 : 2;
+            int[][][] table = type == I_TYPE ? I_KICKS : JLSTZ_KICKS;
+            for (int from = 0; from < 4; from++) {
+                for (int to = 0; to < 4; to++) {
+                    if (type == O_TYPE) {
+                        KICKS[type][from][to] = NO_KICKS;
+                        continue;
+                    }
+                    int[] srs = table[srsState(spawnState, from)][srsState(spawnState, to)];
+                    if (srs == null) {
+                        continue; // 180 degree turns are not part of SRS
+                    }
+                    int[] kicks = new int[srs.length];
+                    for (int i = 0; i < srs.length; i += 2) {
+                        kicks[i] = srs[i];
+                        kicks[i + 1] = -srs[i + 1];
+                    }
+                    KICKS[type][from][to] = kicks;
+                }
+            }
+        }
+    }
+
+    private RotationSystem() {
+    }
+
+    private static int srsState(int spawnState, int rotation) {
+        // Rotation index + 1 is counter-clockwise, SRS state + 1 is clockwise
+        return Math.floorMod(spawnState - rotation, 4);
+    }
+
+    private static boolean usesSrs(int typeId, int shapeCount) {
+        return typeId > 0 && typeId < TYPE_COUNT && 4 % shapeCount == 0;
+    }
+
+    /**
+     * Gets the number of rotation indices a brick cycles through.
+     *
+     * @param typeId the brick type id
+     * @param shapeCount the number of shapes in the brick's rotation table
+     * @return 4 for the built-in tetrominoes, otherwise the number of shapes
+     */
+    public static int rotationCount(int typeId, int shapeCount) {
+        return usesSrs(typeId, shapeCount) ? 4 : shapeCount;
+    }
+
+    /**
+     * Gets the rotation index reached by turning once.
+     *
+     * @param rotation the current rotation index
+     * @param rotationCount the value of {@link #rotationCount(int, int)}
+     * @param clockwise true for a clockwise turn, false for counter-clockwise
+     * @return the new rotation index
+     */
+    public static int rotate(int rotation, int rotationCount, boolean clockwise) {
+        return Math.floorMod(rotation + (clockwise ? -1 : 1), rotationCount);
+    }
+
+    /**
+     * Gets the kick offsets to try, in order, when turning between two rotation indices.
+     * The returned array holds (dx, dy) pairs in board coordinates and must not be modified.
+     *
+     * @param typeId the brick type id
+     * @param shapeCount the number of shapes in the brick's rotation table
+     * @param from the rotation index before the turn
+     * @param to the rotation index after the turn
+     * @return the shared kick table, starting with the unshifted (0, 0) test
+     */
+    public static int[] kicks(int typeId, int shapeCount, int from, int to) {
+        if (!usesSrs(typeId, shapeCount)) {
+            return LEGACY_KICKS;
+        }
+        int[] kicks = KICKS[typeId][from][to];
+        return kicks != null ? kicks : NO_KICKS;
+    }
+}
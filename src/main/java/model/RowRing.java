@@ -0,0 +1,287 @@
+package model;
+
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.util.Arrays;
+
+/**
+ * Playfield storage as a circular array of row references plus a base index.
+ * Logical row 0 (the top of the board) lives at {@code ring[base]}. Removing rows at
+ * the bottom or pushing new rows in from the bottom only moves the base and recycles the
+ * affected row arrays, so those operations cost O(k) for k rows instead of shifting the
+ * whole board. A logically ordered {@code int[][]} view for callers that need one is
+ * rebuilt lazily, as pointer copies only.
+ * <p>
+ * Next to every live row the ring keeps the immutable copy handed out by the last
+ * {@link #capture()} or {@link #restore(int[][])}. The copy travels with its row when rows
+ * move, so a row that only shifted because of a line clear or garbage is still shared by
+ * the next capture instead of being copied again. Rows written since then are flagged, so
+ * capturing and restoring only compare the cells of rows that may differ.
+ *
+ * @author COMP2042 Coursework
+ */
+final class RowRing {
+
+    private final int rows;
+    private final int columns;
+    private final int[][] ring;
+    private int base = 0;
+    private final int[][] orderedView;
+    private boolean viewStale = false;
+    // Scratch space for removeRows, so clearing does not allocate
+    private final int[][] freedRows;
+    // Immutable copy of each slot's row as of the last capture or restore, indexed like ring
+    private final int[][] captured;
+    // Set for slots whose cells were written since the last capture or restore, indexed like ring
+    private final boolean[] dirty;
+    private final int[] emptyRow;
+
+    RowRing(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        this.ring = new int[rows][columns];
+        this.orderedView = new int[rows][];
+        this.freedRows = new int[rows][];
+        this.captured = new int[rows][];
+        this.dirty = new boolean[rows];
+        this.emptyRow = new int[columns];
+        System.arraycopy(ring, 0, orderedView, 0, rows);
+        Arrays.fill(captured, emptyRow);
+    }
+
+    int getRows() {
+        return rows;
+    }
+
+    int getColumns() {
+        return columns;
+    }
+
+    /**
+     * Gets the live array of a logical row, for reading. Cells are written through
+     * {@link #set(int, int, int)} or {@link #fillRow(int, int)} so the row is flagged for
+     * the next capture or restore.
+     */
+    int[] row(int row) {
+        return ring[slot(row)];
+    }
+
+    private int slot(int row) {
+        int index = base + row;
+        return index >= rows ? index - rows : index;
+    }
+
+    /**
+     * Moves a row reference, with its captured copy, to another logical row.
+     */
+    private void moveRow(int source, int destination) {
+        int from = slot(source);
+        int to = slot(destination);
+        ring[to] = ring[from];
+        captured[to] = captured[from];
+        dirty[to] = dirty[from];
+    }
+
+    /**
+     * Puts an emptied row array into a logical row.
+     */
+    private void setEmptyRow(int row, int[] cells) {
+        int to = slot(row);
+        ring[to] = cells;
+        captured[to] = emptyRow;
+        dirty[to] = false;
+    }
+
+    int get(int row, int column) {
+        return row(row)[column];
+    }
+
+    void set(int row, int column, int value) {
+        int slot = slot(row);
+        ring[slot][column] = value;
+        dirty[slot] = true;
+    }
+
+    void fillRow(int row, int value) {
+        int slot = slot(row);
+        Arrays.fill(ring[slot], value);
+        dirty[slot] = true;
+    }
+
+    /**
+     * Flags every row as written, after cells may have changed through the ordered view.
+     */
+    void markAllWritten() {
+        Arrays.fill(dirty, true);
+    }
+
+    /**
+     * Tests a shape against the walls, floor and filled cells, like
+     * {@link MatrixOperations#intersect(int[][], BrickShape, int, int)}.
+     */
+    boolean intersects(BrickShape shape, int x, int y) {
+        for (int i = 0; i < shape.getCellCount(); i++) {
+            int row = y + shape.getCellRow(i);
+            int column = x + shape.getCellColumn(i);
+            if (row < 0 || row >= rows || column < 0 || column >= columns || row(row)[column] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Removes rows and adds the same number of empty rows at the top. Surviving rows are
+     * moved from whichever side of the cleared rows has fewer of them: rows below the
+     * clear are pulled up and the base is rotated, so a clear near the bottom costs
+     * O(k) pointer moves.
+     *
+     * @param clearedRows logical indices of the rows to remove, in ascending order
+     * @param count how many entries of clearedRows to use
+     */
+    void removeRows(int[] clearedRows, int count) {
+        if (count == 0) {
+            return;
+        }
+        int top = clearedRows[0];
+        int bottom = clearedRows[count - 1];
+        int next = 0;
+        if (rows - 1 - top <= bottom) {
+            // Pull the rows below the highest cleared row up, freed rows end up at the bottom
+            int destination = top;
+            for (int source = top; source < rows; source++) {
+                if (next < count && clearedRows[next] == source) {
+                    freedRows[next++] = row(source);
+                } else {
+                    moveRow(source, destination++);
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                setEmptyRow(rows - count + i, freedRows[i]);
+            }
+            // Rotate so the freed rows become the top of the board
+            base = (base + rows - count) % rows;
+        } else {
+            // Push the rows above the lowest cleared row down, freed rows end up at the top
+            next = count - 1;
+            int destination = bottom;
+            for (int source = bottom; source >= 0; source--) {
+                if (next >= 0 && clearedRows[next] == source) {
+                    freedRows[next--] = row(source);
+                } else {
+                    moveRow(source, destination--);
+                }
+            }
+            for (int i = 0; i < count; i++) {
+                setEmptyRow(i, freedRows[i]);
+            }
+        }
+        for (int i = 0; i < count; i++) {
+            Arrays.fill(freedRows[i], 0);
+            freedRows[i] = null;
+        }
+        viewStale = true;
+    }
+
+    /**
+     * Removes the bottom k rows and adds k empty rows at the top.
+     */
+    void removeBottomRows(int count) {
+        for (int i = rows - count; i < rows; i++) {
+            int slot = slot(i);
+            Arrays.fill(ring[slot], 0);
+            captured[slot] = emptyRow;
+            dirty[slot] = false;
+        }
+        base = (base + rows - count) % rows;
+        viewStale = true;
+    }
+
+    /**
+     * Pushes every row up by k; the top k rows fall off and come back as empty rows at
+     * the bottom, ready to be filled by the caller.
+     */
+    void insertBottomRows(int count) {
+        for (int i = 0; i < count; i++) {
+            int slot = slot(i);
+            Arrays.fill(ring[slot], 0);
+            captured[slot] = emptyRow;
+            dirty[slot] = false;
+        }
+        base = (base + count) % rows;
+        viewStale = true;
+    }
+
+    void clear() {
+        for (int[] cells : ring) {
+            Arrays.fill(cells, 0);
+        }
+        Arrays.fill(captured, emptyRow);
+        Arrays.fill(dirty, false);
+    }
+
+    /**
+     * Captures the rows in logical order as arrays that are never written again. Rows that
+     * have not been written since the last capture or restore reuse the copy made then
+     * without comparing their cells.
+     *
+     * @return a new array of shared, immutable rows
+     */
+    int[][] capture() {
+        int[][] copy = new int[rows][];
+        for (int row = 0; row < rows; row++) {
+            int slot = slot(row);
+            if (dirty[slot]) {
+                if (!Arrays.equals(ring[slot], captured[slot])) {
+                    captured[slot] = ring[slot].clone();
+                }
+                dirty[slot] = false;
+            }
+            copy[row] = captured[slot];
+        }
+        return copy;
+    }
+
+    /**
+     * Overwrites the rows with a capture. A row is only compared when it was written since
+     * the last capture or restore, or when the capture holds a different row array for it;
+     * rows shared with the capture are skipped. Only rows whose cells differ are written.
+     *
+     * @param source rows in logical order, as returned by {@link #capture()}
+     * @param changedRows receives the logical indices of the rows written, in ascending order
+     * @return how many entries of changedRows were filled
+     */
+    int restore(int[][] source, int[] changedRows) {
+        int changed = 0;
+        for (int row = 0; row < rows; row++) {
+            int slot = slot(row);
+            if (!dirty[slot] && captured[slot] == source[row]) {
+                continue;
+            }
+            if (!Arrays.equals(ring[slot], source[row])) {
+                System.arraycopy(source[row], 0, ring[slot], 0, columns);
+                changedRows[changed++] = row;
+            }
+            captured[slot] = source[row];
+            dirty[slot] = false;
+        }
+        return changed;
+    }
+
+    /**
+     * Gets the rows in logical order. The returned array is always the same instance and
+     * shares its row arrays with the ring, so cell writes through it change the board and
+     * must be followed by {@link #markAllWritten()}.
+     * It is only refreshed by this call: after rows are removed or inserted, callers must
+     * fetch it again.
+     */
+    int[][] orderedView() {
+        if (viewStale) {
+            for (int row = 0; row < rows; row++) {
+                orderedView[row] = row(row);
+            }
+            viewStale = false;
+        }
+        return orderedView;
+    }
+}
@@ -1,41 +1,77 @@
 package model;
 
-import javafx.beans.property.IntegerProperty;
-import javafx.beans.property.SimpleIntegerProperty;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
- * Manages the game score using JavaFX properties for reactive UI binding.
- * Provides methods to add points and reset the score. The score is observable
- * through the scoreProperty() method for automatic UI updates.
+ * Manages the game score as a plain counter.
+ * Provides methods to add points and reset the score. Interested parties, such as the
+ * GUI, register an {@link IntValueListener} to be told about changes.
  * 
  * @author COMP2042 Coursework
  */
 public final class Score {
 
-    private final IntegerProperty score = new SimpleIntegerProperty(0);
+    private int score = 0;
+    private final List<IntValueListener> listeners = new ArrayList<>();
 
     /**
-     * Gets the score property for reactive UI binding.
+     * Gets the current score.
      * 
-     * @return the IntegerProperty representing the current score
+     * @return the current score
      */
-    public IntegerProperty scoreProperty() {
+    public int getValue() {
         return score;
     }
 
+    /**
+     * Registers a listener that is called whenever the score changes.
+     * 
+     * @param listener the listener to notify
+     */
+    public void addListener(IntValueListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a previously registered listener.
+     * 
+     * @param listener the listener to remove
+     */
+    public void removeListener(IntValueListener listener) {
+        listeners.remove(listener);
+    }
+
     /**
      * Adds points to the current score.
      * 
      * @param i the number of points to add
      */
     public void add(int i){
-        score.setValue(score.getValue() + i);
+        set(score + i);
     }
 
     /**
      * Resets the score to zero.
      */
     public void reset() {
-        score.setValue(0);
+        set(0);
+    }
+
+    /**
+     * Sets the score directly, e.g. when a snapshot is restored. Listeners are notified if
+     * the value changes.
+     * 
+     * @param value the new score
+     */
+    void set(int value) {
+        int old = score;
+        score = value;
+        if (old != value) {
+            // Indexed loop so notifying does not allocate an iterator
+            for (int i = 0; i < listeners.size(); i++) {
+                listeners.get(i).valueChanged(old, value);
+            }
+        }
     }
 }
@@ -2,11 +2,12 @@ package model;
 
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
 import com.comp2042.logic.bricks.RandomBrickGenerator;
 import view.ClearRow;
-import view.NextShapeInfo;
 
-import java.awt.*;
+import java.util.Arrays;
+import java.util.function.Supplier;
 
 /**
  * Implementation of the game board for Tetris.
@@ -18,17 +19,40 @@ import java.awt.*;
  */
 public class SimpleBoard implements Board {
 
+    // Package-private so placement search starts held pieces where the boards spawn them
+    static final int SPAWN_X = 4;
+    static final int SPAWN_Y = 0;
+
     private final int width;
     private final int height;
-    private final BrickGenerator brickGenerator;
+    // Not final: restoring a snapshot swaps in a copy positioned at the captured point
+    private BrickGenerator brickGenerator;
     private final BrickRotator brickRotator;
-    private int[][] currentGameMatrix;
-    private Point currentOffset;
+    // Rows of the playfield, stored as a ring so clears and insertions move O(k) row references
+    private final RowRing rowRing;
+    // Type, rotation and position of the falling brick, packed by PieceState
+    private int pieceState;
     private final Score score;
     private final PowerUpManager powerUpManager;
     private Brick heldBrick;
     private boolean canHold = true; // Can only hold once per piece placement
     private boolean isBombPiece = false; // Flag for bomb piece power-up
+    // Row index of the highest filled cell in each column (width when the column is empty).
+    // Kept up to date incrementally so landing rows come from the brick skirt in constant time.
+    private final int[] columnTops;
+    // Set when the live matrix has been handed out; external writes force a rescan of columnTops
+    private boolean matrixExposed = false;
+    // Rows covered by bricks merged since the last clear; only these can have become full
+    private int pendingTopRow;
+    private int pendingBottomRow = -1;
+    // Scratch space for clearRows, so locking a piece does not allocate
+    private final int[] clearedRows;
+    // Scratch space for restore, so rewinding does not allocate
+    private final int[] restoredRows;
+    private final ClearRow noLinesCleared;
+    private final Supplier<int[][]> matrixView;
+    // Garbage received from an opponent, pushed in when the next brick locks
+    private final GarbageQueue garbageQueue = new GarbageQueue();
 
     /**
      * Constructs a new SimpleBoard with the specified dimensions.
@@ -38,10 +62,29 @@ public class SimpleBoard implements Board {
      * @param height the height of the game board
      */
     public SimpleBoard(int width, int height) {
+        this(width, height, new RandomBrickGenerator());
+    }
+
+    /**
+     * Constructs a new SimpleBoard that draws its bricks from the given generator,
+     * e.g. a {@link com.comp2042.logic.bricks.SeededBrickGenerator} for reproducible games.
+     * 
+     * @param width the width of the game board
+     * @param height the height of the game board
+     * @param brickGenerator the source of bricks
+     */
+    public SimpleBoard(int width, int height, BrickGenerator brickGenerator) {
         this.width = width;
         this.height = height;
-        currentGameMatrix = new int[width][height];
-        brickGenerator = new RandomBrickGenerator();
+        rowRing = new RowRing(width, height);
+        columnTops = new int[height];
+        Arrays.fill(columnTops, width);
+        pendingTopRow = width;
+        clearedRows = new int[width];
+        restoredRows = new int[width];
+        matrixView = rowRing::orderedView;
+        noLinesCleared = new ClearRow(0, matrixView, 0, 0L);
+        this.brickGenerator = brickGenerator;
         brickRotator = new BrickRotator();
         score = new Score();
         powerUpManager = new PowerUpManager();
@@ -49,125 +92,172 @@ public class SimpleBoard implements Board {
 
     @Override
     public boolean moveBrickDown() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(0, 1);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return tryMove(currentX(), currentY() + 1);
     }
 
 
     @Override
     public boolean moveBrickLeft() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(-1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
-            return false;
-        } else {
-            currentOffset = p;
-            return true;
-        }
+        return tryMove(currentX() - 1, currentY());
     }
 
     @Override
     public boolean moveBrickRight() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        Point p = new Point(currentOffset);
-        p.translate(1, 0);
-        boolean conflict = MatrixOperations.intersect(currentMatrix, brickRotator.getCurrentShape(), (int) p.getX(), (int) p.getY());
-        if (conflict) {
+        return tryMove(currentX() + 1, currentY());
+    }
+
+    /**
+     * Moves the brick to (x, y) if it fits. Collision is tested read-only against the
+     * live matrix, so movement allocates nothing.
+     */
+    private boolean tryMove(int x, int y) {
+        if (rowRing.intersects(brickRotator.getCurrentBrickShape(), x, y)) {
             return false;
-        } else {
-            currentOffset = p;
-            return true;
         }
+        pieceState = PieceState.withPosition(pieceState, x, y);
+        return true;
+    }
+
+    private int currentX() {
+        return PieceState.x(pieceState);
+    }
+
+    private int currentY() {
+        return PieceState.y(pieceState);
+    }
+
+    /**
+     * Gets the packed state of the falling brick.
+     * 
+     * @return the state as packed by {@link PieceState}
+     */
+    @Override
+    public int getPieceState() {
+        return pieceState;
     }
 
     @Override
     public boolean rotateLeftBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        NextShapeInfo nextShape = brickRotator.getNextShape();
-        int[][] rotatedShape = nextShape.getShape();
-        int currentX = (int) currentOffset.getX();
-        int currentY = (int) currentOffset.getY();
-        
-        // Try rotation at current position first
-        if (!MatrixOperations.intersect(currentMatrix, rotatedShape, currentX, currentY)) {
-            brickRotator.setCurrentShape(nextShape.getPosition());
-            return true;
-        }
-        
-        // Wall kick: try shifting left and right to find a valid rotation position
-        // Standard wall kick offsets: try 1 left, 1 right, 2 left, 2 right
-        int[] kickOffsets = {-1, 1, -2, 2};
-        
-        for (int offset : kickOffsets) {
-            int testX = currentX + offset;
-            if (!MatrixOperations.intersect(currentMatrix, rotatedShape, testX, currentY)) {
-                // Found a valid position, update offset and rotate
-                currentOffset = new Point(testX, currentY);
-                brickRotator.setCurrentShape(nextShape.getPosition());
+        return rotate(false);
+    }
+
+    @Override
+    public boolean rotateRightBrick() {
+        return rotate(true);
+    }
+
+    /**
+     * Turns the brick one step, trying the SRS kick offsets for this piece and direction
+     * in order and keeping the first position where the rotated shape fits.
+     */
+    private boolean rotate(boolean clockwise) {
+        int shapeCount = brickRotator.getShapeCount();
+        int typeId = PieceState.typeId(pieceState);
+        int from = PieceState.rotation(pieceState);
+        int to = RotationSystem.rotate(from, RotationSystem.rotationCount(typeId, shapeCount), clockwise);
+        BrickShape rotatedShape = brickRotator.getBrickShape(to % shapeCount);
+        int[] kicks = RotationSystem.kicks(typeId, shapeCount, from, to);
+        int x = currentX();
+        int y = currentY();
+        for (int i = 0; i < kicks.length; i += 2) {
+            int testX = x + kicks[i];
+            int testY = y + kicks[i + 1];
+            if (!rowRing.intersects(rotatedShape, testX, testY)) {
+                brickRotator.setCurrentShape(to % shapeCount);
+                pieceState = PieceState.of(typeId, to, testX, testY);
                 return true;
             }
         }
         
-        // All attempts failed
+        // All kicks failed
         return false;
     }
 
     @Override
     public boolean hardDropBrick() {
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        int[][] brickShape = brickRotator.getCurrentShape();
-        int currentX = (int) currentOffset.getX();
-        int currentY = (int) currentOffset.getY();
-        
-        // Calculate drop position by simulating drop
-        int dropY = currentY;
+        // Move brick to drop position
+        pieceState = PieceState.withPosition(pieceState, currentX(), calculateDropY());
+        return true;
+    }
+
+    @Override
+    public int getHardDropDistance() {
+        // Calculate how many rows the brick will drop
+        return Math.max(0, calculateDropY() - currentY());
+    }
+
+    /**
+     * Returns the lowest row the current brick can occupy. When every column of the brick
+     * is above the surface of the board, the landing row follows directly from the column
+     * tops and the brick skirt; bricks tucked under an overhang fall back to stepping down.
+     */
+    private int calculateDropY() {
+        syncIfExposed();
+        BrickShape brickShape = brickRotator.getCurrentBrickShape();
+        int currentX = currentX();
+        int currentY = currentY();
+        int landingY = Integer.MAX_VALUE;
+        for (int col = brickShape.getMinColumn(); col <= brickShape.getMaxColumn(); col++) {
+            int skirt = brickShape.getSkirt(col);
+            if (skirt < 0) {
+                continue;
+            }
+            int boardCol = currentX + col;
+            if (boardCol < 0 || boardCol >= height || currentY + skirt >= columnTops[boardCol]) {
+                return stepDropY(brickShape);
+            }
+            landingY = Math.min(landingY, columnTops[boardCol] - 1 - skirt);
+        }
+        return landingY == Integer.MAX_VALUE ? currentY : landingY;
+    }
+
+    /**
+     * Simulates dropping the brick one row at a time until it hits something.
+     */
+    private int stepDropY(BrickShape brickShape) {
+        int currentX = currentX();
+        int dropY = currentY();
         while (true) {
             int testY = dropY + 1;
-            if (MatrixOperations.intersect(currentMatrix, brickShape, currentX, testY)) {
+            if (rowRing.intersects(brickShape, currentX, testY)) {
                 break; // Found collision, stop here
             }
             dropY = testY;
             // Safety check to prevent infinite loop
-            if (dropY >= currentGameMatrix.length) {
+            if (dropY >= width) {
                 break;
             }
         }
-        
-        // Move brick to drop position
-        currentOffset = new Point(currentX, dropY);
-        return true;
+        return dropY;
     }
 
-    public int getHardDropDistance() {
-        // Calculate how many rows the brick will drop
-        int[][] currentMatrix = MatrixOperations.copy(currentGameMatrix);
-        int[][] brickShape = brickRotator.getCurrentShape();
-        int currentX = (int) currentOffset.getX();
-        int currentY = (int) currentOffset.getY();
-        
-        int dropY = currentY;
-        while (true) {
-            int testY = dropY + 1;
-            if (MatrixOperations.intersect(currentMatrix, brickShape, currentX, testY)) {
-                break;
+    /**
+     * Catches up with writes made through {@link #getBoardMatrix()}: rescans the column
+     * surface, queues every row for the next full-row check and flags every row for the
+     * next snapshot or restore.
+     */
+    private void syncIfExposed() {
+        if (matrixExposed) {
+            for (int col = 0; col < height; col++) {
+                columnTops[col] = scanColumnTop(col, 0);
             }
-            dropY = testY;
-            if (dropY >= currentGameMatrix.length) {
-                break;
+            pendingTopRow = 0;
+            pendingBottomRow = width - 1;
+            rowRing.markAllWritten();
+            matrixExposed = false;
+        }
+    }
+
+    /**
+     * Returns the first filled row of a column at or below fromRow, or width if there is none.
+     */
+    private int scanColumnTop(int col, int fromRow) {
+        for (int row = Math.max(0, fromRow); row < width; row++) {
+            if (rowRing.get(row, col) != 0) {
+                return row;
             }
         }
-        
-        return Math.max(0, dropY - currentY);
+        return width;
     }
 
     @Override
@@ -184,16 +274,14 @@ public class SimpleBoard implements Board {
             // No held brick, so hold the current one and get a new brick
             heldBrick = currentBrick;
             Brick newBrick = brickGenerator.getBrick();
-            brickRotator.setBrick(newBrick);
-            currentOffset = new Point(4, 0);
+            spawn(newBrick);
             canHold = false; // Can't hold again until this piece is placed
             return true;
         } else {
             // Swap current brick with held brick
             Brick temp = heldBrick;
             heldBrick = currentBrick;
-            brickRotator.setBrick(temp);
-            currentOffset = new Point(4, 0);
+            spawn(temp);
             canHold = false; // Can't hold again until this piece is placed
             return true;
         }
@@ -202,46 +290,77 @@ public class SimpleBoard implements Board {
     @Override
     public boolean createNewBrick() {
         Brick currentBrick = brickGenerator.getBrick();
-        brickRotator.setBrick(currentBrick);
-        currentOffset = new Point(4, 0);
+        spawn(currentBrick);
         canHold = true; // Reset hold ability when new piece is created
-        return MatrixOperations.intersect(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        return rowRing.intersects(brickRotator.getCurrentBrickShape(), SPAWN_X, SPAWN_Y);
+    }
+
+    private void spawn(Brick brick) {
+        brickRotator.setBrick(brick);
+        pieceState = PieceState.of(brick.getTypeId(), 0, SPAWN_X, SPAWN_Y);
     }
 
+    /**
+     * Returns the live board matrix in row order. Writes through it are allowed; the column
+     * surface is rescanned on the next operation that needs it. Rows are stored in a ring,
+     * so after rows are cleared or inserted the matrix must be fetched again.
+     */
     @Override
     public int[][] getBoardMatrix() {
-        return currentGameMatrix;
+        matrixExposed = true;
+        return rowRing.orderedView();
+    }
+
+    /**
+     * Returns the same ordered view as {@link #getBoardMatrix()} without arming the rescan,
+     * so rendering after every lock keeps clears and landing rows incremental.
+     */
+    @Override
+    public int[][] getBoardMatrixView() {
+        return rowRing.orderedView();
     }
 
     @Override
     public ViewData getViewData() {
-        int[][] heldBrickData = null;
+        BrickShape heldBrickData = null;
         if (heldBrick != null) {
-            heldBrickData = heldBrick.getShapeMatrix().get(0);
+            heldBrickData = heldBrick.getShapes().get(0);
         }
-        return new ViewData(brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY(), brickGenerator.getNextBrick().getShapeMatrix().get(0), heldBrickData);
+        return new ViewData(brickRotator.getCurrentBrickShape(), currentX(), currentY(), ViewData.previewShapes(brickGenerator), heldBrickData, calculateDropY());
     }
 
     @Override
     public void mergeBrickToBackground() {
+        syncIfExposed();
         // If this is a bomb piece, clear 4x4 area and don't place the piece
         if (isBombPiece) {
-            Point bombCenter = getBombCenterPosition();
-            if (bombCenter != null) {
-                clearBombArea((int)bombCenter.getX(), (int)bombCenter.getY());
-                // Store bomb position for visual effect (before resetting flag)
-                bombEffectX = (int)bombCenter.getX();
-                bombEffectY = (int)bombCenter.getY();
-                shouldShowBombEffect = true;
-            }
+            int centerX = getBombCenterX();
+            int centerY = getBombCenterY();
+            clearBombArea(centerX, centerY);
+            // Store bomb position for visual effect (before resetting flag)
+            bombEffectX = centerX;
+            bombEffectY = centerY;
+            shouldShowBombEffect = true;
             // Reset bomb flag after use
             isBombPiece = false;
             // Don't merge the piece - the bomb explodes and disappears
             return;
         }
         
-        // Normal piece - merge it to the background
-        currentGameMatrix = MatrixOperations.merge(currentGameMatrix, brickRotator.getCurrentShape(), (int) currentOffset.getX(), (int) currentOffset.getY());
+        // Normal piece - write it into the live matrix and remember which rows it touched
+        BrickShape brickShape = brickRotator.getCurrentBrickShape();
+        int currentX = currentX();
+        int currentY = currentY();
+        for (int i = 0; i < brickShape.getCellCount(); i++) {
+            int row = currentY + brickShape.getCellRow(i);
+            int col = currentX + brickShape.getCellColumn(i);
+            if (row >= 0 && row < width && col >= 0 && col < height) {
+                rowRing.set(row, col, brickShape.getCellColor(i));
+                columnTops[col] = Math.min(columnTops[col], row);
+                pendingTopRow = Math.min(pendingTopRow, row);
+                pendingBottomRow = Math.max(pendingBottomRow, row);
+            }
+        }
     }
     
     // Temporary storage for bomb effect position
@@ -251,52 +370,92 @@ public class SimpleBoard implements Board {
     /**
      * Check if bomb effect should be shown and get position
      */
+    @Override
     public boolean shouldShowBombEffect() {
         return shouldShowBombEffect;
     }
     
+    @Override
     public int getBombEffectX() {
         return bombEffectX;
     }
     
+    @Override
     public int getBombEffectY() {
         return bombEffectY;
     }
     
+    @Override
     public void clearBombEffectFlag() {
         shouldShowBombEffect = false;
     }
 
     /**
-     * Get the center position of the current brick for bomb explosion
+     * Get the column of the bomb explosion center: the first non-zero cell of the
+     * current brick (cells are listed in row-major order), or the brick offset as fallback
      */
-    private Point getBombCenterPosition() {
-        int[][] brickShape = brickRotator.getCurrentShape();
-        int centerX = (int) currentOffset.getX();
-        int centerY = (int) currentOffset.getY();
-        
-        // Find the actual center block (first non-zero cell)
-        for (int i = 0; i < brickShape.length; i++) {
-            for (int j = 0; j < brickShape[i].length; j++) {
-                if (brickShape[i][j] != 0) {
-                    // Use the first non-zero cell as center, or find average
-                    int worldX = centerX + j;
-                    int worldY = centerY + i;
-                    return new Point(worldX, worldY);
-                }
-            }
-        }
-        
-        // Fallback: use offset position
-        return new Point(centerX, centerY);
+    private int getBombCenterX() {
+        BrickShape brickShape = brickRotator.getCurrentBrickShape();
+        return brickShape.getCellCount() > 0 ? currentX() + brickShape.getCellColumn(0) : currentX();
+    }
+
+    /**
+     * Get the row of the bomb explosion center, matching {@link #getBombCenterX()}
+     */
+    private int getBombCenterY() {
+        BrickShape brickShape = brickRotator.getCurrentBrickShape();
+        return brickShape.getCellCount() > 0 ? currentY() + brickShape.getCellRow(0) : currentY();
     }
 
+    /**
+     * Removes full rows in place. Only the rows touched by bricks merged since the last
+     * call are inspected, unless the matrix was handed out through {@link #getBoardMatrix()}
+     * and may have been written to, in which case every row is checked. The row ring compacts by moving row references
+     * on the shorter side of the cleared rows, and the cleared rows are reused as the new
+     * empty rows at the top.
+     */
     @Override
     public ClearRow clearRows() {
-        ClearRow clearRow = MatrixOperations.checkRemoving(currentGameMatrix);
-        currentGameMatrix = clearRow.getNewMatrix();
-        return clearRow;
+        syncIfExposed();
+        int fromRow = pendingTopRow;
+        int toRow = pendingBottomRow;
+        pendingTopRow = width;
+        pendingBottomRow = -1;
+
+        int removed = 0;
+        long clearedRowMask = 0L;
+        for (int row = fromRow; row <= toRow; row++) {
+            if (isRowFull(row)) {
+                clearedRows[removed++] = row;
+                if (row < Long.SIZE) {
+                    clearedRowMask |= 1L << row;
+                }
+            }
+        }
+        if (removed == 0) {
+            return noLinesCleared;
+        }
 
+        rowRing.removeRows(clearedRows, removed);
+
+        // Full rows cover every column, so a column top is at or above the highest cleared row.
+        // Tops above it just move down; tops on it are rescanned below the shifted rows.
+        int topClearedRow = clearedRows[0];
+        for (int col = 0; col < height; col++) {
+            columnTops[col] = columnTops[col] < topClearedRow
+                    ? columnTops[col] + removed
+                    : scanColumnTop(col, topClearedRow + removed);
+        }
+        return new ClearRow(removed, matrixView, 50 * removed * removed, clearedRowMask);
+    }
+
+    private boolean isRowFull(int row) {
+        for (int col = 0; col < height; col++) {
+            if (rowRing.get(row, col) == 0) {
+                return false;
+            }
+        }
+        return true;
     }
 
     @Override
@@ -307,7 +466,12 @@ public class SimpleBoard implements Board {
 
     @Override
     public void newGame() {
-        currentGameMatrix = new int[width][height];
+        rowRing.clear();
+        Arrays.fill(columnTops, width);
+        pendingTopRow = width;
+        pendingBottomRow = -1;
+        matrixExposed = false;
+        garbageQueue.clear();
         score.reset();
         powerUpManager.reset();
         heldBrick = null;
@@ -316,6 +480,7 @@ public class SimpleBoard implements Board {
         createNewBrick();
     }
 
+    @Override
     public PowerUpManager getPowerUpManager() {
         return powerUpManager;
     }
@@ -323,6 +488,7 @@ public class SimpleBoard implements Board {
     /**
      * Set bomb piece flag (for bomb piece power-up)
      */
+    @Override
     public void setBombPiece(boolean isBomb) {
         this.isBombPiece = isBomb;
     }
@@ -330,43 +496,187 @@ public class SimpleBoard implements Board {
     /**
      * Clear bottom numRows rows and shift everything above downward
      */
+    @Override
     public boolean clearRowsPowerUp(int numRows) {
-        // Matrix structure: currentGameMatrix[width][height] where:
-        // - width = 25 (number of rows)
-        // - height = 10 (number of columns)
-        // - Matrix is accessed as matrix[row][col] = matrix[y][x]
-        // - Row 0 is at TOP (spawn area, hidden)
-        // - Row 24 is at BOTTOM (where blocks land, visible)
-        // We want to CLEAR the bottom numRows rows and shift everything above downward
-        
+        // Board structure: width = 25 rows, height = 10 columns, row 0 is at the TOP
+        // (spawn area, hidden) and row 24 at the BOTTOM. We CLEAR the bottom numRows rows
+        // and shift everything above downward, which the row ring does by moving its base.
         if (numRows <= 0 || numRows > width) {
             return false;
         }
+        syncIfExposed();
+        rowRing.removeBottomRows(numRows);
+
+        // Every column sinks by numRows; columns living only in the cleared rows become empty
+        for (int col = 0; col < height; col++) {
+            columnTops[col] = Math.min(width, columnTops[col] + numRows);
+        }
+        // Rows still waiting for a full-row check have moved down with everything else
+        if (pendingBottomRow >= 0) {
+            pendingTopRow = Math.min(width, pendingTopRow + numRows);
+            pendingBottomRow = Math.min(width - 1, pendingBottomRow + numRows);
+        }
         
-        int bottomRow = width - 1;
-        int destinationRow = bottomRow;
-        
-        // Walk upward through the matrix, copying rows that should remain
-        for (int row = bottomRow; row >= 0; row--) {
-            boolean rowCleared = (row >= width - numRows);
-            
-            if (!rowCleared) {
-                // Copy this row down to the destination
-                for (int col = 0; col < height; col++) {
-                    currentGameMatrix[destinationRow][col] = currentGameMatrix[row][col];
-                }
-                destinationRow--;
+        return true;
+    }
+
+    /**
+     * Pushes garbage rows in from the bottom right away. Every row moves up, and the new
+     * rows are filled except for the hole column. The falling brick is lifted by as few
+     * rows as it needs to stay clear of the stack.
+     *
+     * @param lines the number of garbage rows
+     * @param holeColumn the column left empty in every garbage row
+     * @return true if the board topped out: filled cells were pushed off the top, or the
+     *         falling brick has nowhere to go
+     */
+    @Override
+    public boolean insertGarbage(int lines, int holeColumn) {
+        boolean toppedOut = pushGarbage(lines, holeColumn);
+        BrickShape brickShape = brickRotator.getCurrentBrickShape();
+        int x = currentX();
+        int y = currentY();
+        for (int lift = 0; lift <= Math.max(0, lines); lift++) {
+            if (!rowRing.intersects(brickShape, x, y - lift)) {
+                pieceState = PieceState.withPosition(pieceState, x, y - lift);
+                return toppedOut;
             }
         }
-        
-        // Fill any remaining rows (above destinationRow) with zeros
-        for (int row = destinationRow; row >= 0; row--) {
+        return true;
+    }
+
+    /**
+     * Queues garbage to be pushed in by {@link #applyPendingGarbage()}.
+     */
+    @Override
+    public void queueGarbage(int lines, int holeColumn) {
+        checkHoleColumn(holeColumn);
+        if (lines > 0) {
+            garbageQueue.add(lines, holeColumn);
+        }
+    }
+
+    @Override
+    public int getPendingGarbage() {
+        return garbageQueue.getPendingLines();
+    }
+
+    /**
+     * Pushes every queued garbage batch into the board, oldest first. Runs when a brick
+     * locks, after full rows are cleared and before the next brick spawns, so there is no
+     * falling brick to lift.
+     *
+     * @return true if any batch pushed filled cells off the top
+     */
+    @Override
+    public boolean applyPendingGarbage() {
+        boolean toppedOut = false;
+        while (!garbageQueue.isEmpty()) {
+            int entry = garbageQueue.poll();
+            toppedOut |= pushGarbage(GarbageQueue.lines(entry), GarbageQueue.holeColumn(entry));
+        }
+        return toppedOut;
+    }
+
+    /**
+     * Moves the stack up by the given number of rows and fills the rows that open up at the
+     * bottom. The row ring recycles the rows pushed off the top, so nothing is copied.
+     */
+    private boolean pushGarbage(int lines, int holeColumn) {
+        checkHoleColumn(holeColumn);
+        if (lines <= 0) {
+            return false;
+        }
+        int count = Math.min(lines, width);
+        syncIfExposed();
+        boolean toppedOut = false;
+        for (int col = 0; col < height; col++) {
+            toppedOut |= columnTops[col] < count;
+        }
+
+        rowRing.insertBottomRows(count);
+        for (int row = width - count; row < width; row++) {
+            rowRing.fillRow(row, GARBAGE_CELL);
+            rowRing.set(row, holeColumn, 0);
+        }
+
+        for (int col = 0; col < height; col++) {
+            int top = columnTops[col];
+            if (top < count) {
+                columnTops[col] = scanColumnTop(col, 0);
+            } else if (col != holeColumn || top < width) {
+                columnTops[col] = top - count;
+            }
+        }
+        // Rows still waiting for a full-row check have moved up with everything else
+        if (pendingBottomRow >= count) {
+            pendingTopRow = Math.max(0, pendingTopRow - count);
+            pendingBottomRow -= count;
+        } else {
+            pendingTopRow = width;
+            pendingBottomRow = -1;
+        }
+        return toppedOut;
+    }
+
+    private void checkHoleColumn(int holeColumn) {
+        if (holeColumn < 0 || holeColumn >= height) {
+            throw new IllegalArgumentException("Hole column must be between 0 and " + (height - 1) + ", got " + holeColumn);
+        }
+    }
+
+    /**
+     * Captures the game state. Settled rows that have not changed since the previous
+     * snapshot or restore are shared with it rather than copied.
+     *
+     * @return an immutable snapshot
+     */
+    @Override
+    public BoardSnapshot snapshot() {
+        syncIfExposed();
+        return new BoardSnapshot(rowRing.capture(), pieceState, brickRotator.getBrick(), heldBrick, canHold,
+                isBombPiece, brickGenerator.copy(), score.getValue(), powerUpManager.capture(),
+                garbageQueue.toArray());
+    }
+
+    /**
+     * Puts the board back into a captured state. Only rows whose cells differ are
+     * written, and the column surface and pending rows are updated from those rows alone;
+     * score and skill point listeners fire if those values change.
+     *
+     * @param snapshot a snapshot of a board with the same dimensions
+     */
+    @Override
+    public void restore(BoardSnapshot snapshot) {
+        if (snapshot.getRows() != width || snapshot.getColumns() != height) {
+            throw new IllegalArgumentException("Snapshot is " + snapshot.getRows() + "x" + snapshot.getColumns()
+                    + ", board is " + width + "x" + height);
+        }
+        syncIfExposed();
+        int restored = rowRing.restore(snapshot.rows, restoredRows);
+        if (restored > 0) {
+            // Rows above the highest written row are untouched, and so are tops found there
+            int topRestoredRow = restoredRows[0];
             for (int col = 0; col < height; col++) {
-                currentGameMatrix[row][col] = 0;
+                if (columnTops[col] >= topRestoredRow) {
+                    columnTops[col] = scanColumnTop(col, topRestoredRow);
+                }
             }
+            // Written rows may be full, so the next clear checks them
+            pendingTopRow = Math.min(pendingTopRow, topRestoredRow);
+            pendingBottomRow = Math.max(pendingBottomRow, restoredRows[restored - 1]);
         }
-        
-        return true;
+
+        brickRotator.setBrick(snapshot.currentBrick);
+        brickRotator.setCurrentShape(PieceState.rotation(snapshot.pieceState) % brickRotator.getShapeCount());
+        pieceState = snapshot.pieceState;
+        heldBrick = snapshot.heldBrick;
+        canHold = snapshot.canHold;
+        isBombPiece = snapshot.bombPiece;
+        brickGenerator = snapshot.brickGenerator.copy();
+        garbageQueue.restore(snapshot.garbage);
+        score.set(snapshot.score);
+        powerUpManager.restore(snapshot.powerUps);
     }
 
     /**
@@ -374,7 +684,7 @@ public class SimpleBoard implements Board {
      */
     public boolean clearBombArea(int centerX, int centerY) {
         // Clear exactly a 4x4 area (4 rows x 4 columns) centered at (centerX, centerY)
-        // Matrix structure: currentGameMatrix[width][height] where width=rows, height=columns
+        // Board structure: width = rows, height = columns
         // centerX is column, centerY is row
         
         // For a 4x4 area centered at (centerX, centerY):
@@ -384,27 +694,28 @@ public class SimpleBoard implements Board {
         int endRow = centerY + 2;    // End 2 rows below center (total 4 rows)
         int startCol = centerX - 1;  // Start 1 col left of center
         int endCol = centerX + 2;    // End 2 cols right of center (total 4 cols)
+        syncIfExposed();
         
         // Clear exactly 4x4 area, handling boundaries
         for (int row = startRow; row <= endRow; row++) {
             for (int col = startCol; col <= endCol; col++) {
                 // Only clear if within bounds
                 if (row >= 0 && row < width && col >= 0 && col < height) {
-                    currentGameMatrix[row][col] = 0;
+                    rowRing.set(row, col, 0);
                 }
             }
         }
+
+        // Only columns whose top cell was blown away need a rescan below the area
+        for (int col = Math.max(0, startCol); col <= endCol && col < height; col++) {
+            if (columnTops[col] >= startRow && columnTops[col] <= endRow) {
+                columnTops[col] = scanColumnTop(col, endRow + 1);
+            }
+        }
         
         return true;
     }
 
-    /**
-     * Get bomb center position for visual effect
-     */
-    public Point getBombCenterForEffect() {
-        return getBombCenterPosition();
-    }
-
     /**
      * Check if bomb piece is active (before it explodes)
      */
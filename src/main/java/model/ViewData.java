@@ -1,5 +1,10 @@
 package model;
 
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
+
+import java.util.List;
+
 /**
  * Data transfer object containing all view-related data for rendering.
  * Encapsulates the current brick data, position, next brick preview, and held brick data.
@@ -9,11 +14,13 @@ package model;
  */
 public final class ViewData {
 
-    private final int[][] brickData;
+    private final BrickShape brickData;
     private final int xPosition;
     private final int yPosition;
-    private final int[][] nextBrickData;
-    private final int[][] heldBrickData;
+    private final BrickShape nextBrickData;
+    private final List<BrickShape> nextBrickShapes;
+    private final BrickShape heldBrickData;
+    private final int landingRow;
 
     /**
      * Constructs a ViewData object with all brick information.
@@ -25,11 +32,74 @@ public final class ViewData {
      * @param heldBrickData the 2D array representing the held brick shape, or null if none
      */
     public ViewData(int[][] brickData, int xPosition, int yPosition, int[][] nextBrickData, int[][] heldBrickData) {
+        this(toShape(brickData), xPosition, yPosition, toShape(nextBrickData), toShape(heldBrickData));
+    }
+
+    /**
+     * Constructs a ViewData object from shared brick shapes without copying them.
+     * 
+     * @param brickData the shape of the current brick
+     * @param xPosition the x-coordinate of the current brick
+     * @param yPosition the y-coordinate of the current brick
+     * @param nextBrickData the shape of the next brick
+     * @param heldBrickData the shape of the held brick, or null if none
+     */
+    public ViewData(BrickShape brickData, int xPosition, int yPosition, BrickShape nextBrickData, BrickShape heldBrickData) {
+        this(brickData, xPosition, yPosition, nextBrickData, heldBrickData, yPosition);
+    }
+
+    /**
+     * Constructs a ViewData object that also carries the row the brick would land on,
+     * so the ghost piece can be drawn without recomputing the drop.
+     * 
+     * @param brickData the shape of the current brick
+     * @param xPosition the x-coordinate of the current brick
+     * @param yPosition the y-coordinate of the current brick
+     * @param nextBrickData the shape of the next brick
+     * @param heldBrickData the shape of the held brick, or null if none
+     * @param landingRow the y-coordinate the brick would have after a hard drop
+     */
+    public ViewData(BrickShape brickData, int xPosition, int yPosition, BrickShape nextBrickData, BrickShape heldBrickData, int landingRow) {
+        this(brickData, xPosition, yPosition, nextBrickData != null ? List.of(nextBrickData) : List.of(),
+                heldBrickData, landingRow);
+    }
+
+    /**
+     * Constructs a ViewData object carrying the whole preview queue.
+     * 
+     * @param brickData the shape of the current brick
+     * @param xPosition the x-coordinate of the current brick
+     * @param yPosition the y-coordinate of the current brick
+     * @param nextBrickShapes the shapes of the upcoming bricks, the next one first
+     * @param heldBrickData the shape of the held brick, or null if none
+     * @param landingRow the y-coordinate the brick would have after a hard drop
+     */
+    public ViewData(BrickShape brickData, int xPosition, int yPosition, List<BrickShape> nextBrickShapes, BrickShape heldBrickData, int landingRow) {
         this.brickData = brickData;
         this.xPosition = xPosition;
         this.yPosition = yPosition;
-        this.nextBrickData = nextBrickData;
+        this.nextBrickShapes = List.copyOf(nextBrickShapes);
+        this.nextBrickData = nextBrickShapes.isEmpty() ? null : nextBrickShapes.get(0);
         this.heldBrickData = heldBrickData;
+        this.landingRow = landingRow;
+    }
+
+    /**
+     * Gets the spawn shapes of every brick a generator currently previews.
+     * 
+     * @param brickGenerator the generator of a board
+     * @return the upcoming shapes, the next one first
+     */
+    static List<BrickShape> previewShapes(BrickGenerator brickGenerator) {
+        BrickShape[] shapes = new BrickShape[brickGenerator.getPreviewSize()];
+        for (int i = 0; i < shapes.length; i++) {
+            shapes[i] = brickGenerator.getPreviewBrick(i).getShapes().get(0);
+        }
+        return List.of(shapes);
+    }
+
+    private static BrickShape toShape(int[][] matrix) {
+        return matrix != null ? new BrickShape(matrix) : null;
     }
 
     /**
@@ -50,7 +120,17 @@ public final class ViewData {
      * @return a copy of the 2D array representing the current brick shape
      */
     public int[][] getBrickData() {
-        return MatrixOperations.copy(brickData);
+        return brickData.toMatrix();
+    }
+
+    /**
+     * Gets the shape of the current brick without copying it. Shapes are immutable, so
+     * the renderer can read cells through this handle as often as it likes.
+     * 
+     * @return the shared shape of the current brick
+     */
+    public BrickShape getBrickShape() {
+        return brickData;
     }
 
     /**
@@ -71,13 +151,42 @@ public final class ViewData {
         return yPosition;
     }
 
+    /**
+     * Gets the y-coordinate the current brick would land on after a hard drop.
+     * Equals the y position when the landing row is unknown or the brick is resting.
+     * 
+     * @return the landing row
+     */
+    public int getLandingRow() {
+        return landingRow;
+    }
+
     /**
      * Gets a copy of the next brick data.
      * 
      * @return a copy of the 2D array representing the next brick shape
      */
     public int[][] getNextBrickData() {
-        return MatrixOperations.copy(nextBrickData);
+        return nextBrickData.toMatrix();
+    }
+
+    /**
+     * Gets the shape of the next brick without copying it.
+     * 
+     * @return the shared shape of the next brick
+     */
+    public BrickShape getNextBrickShape() {
+        return nextBrickData;
+    }
+
+    /**
+     * Gets the shapes of all previewed bricks without copying them. The first one is
+     * {@link #getNextBrickShape()}.
+     * 
+     * @return the upcoming shapes, the next one first
+     */
+    public List<BrickShape> getNextBrickShapes() {
+        return nextBrickShapes;
     }
 
     /**
@@ -86,6 +195,15 @@ public final class ViewData {
      * @return a copy of the 2D array representing the held brick shape, or null
      */
     public int[][] getHeldBrickData() {
-        return heldBrickData != null ? MatrixOperations.copy(heldBrickData) : null;
+        return heldBrickData != null ? heldBrickData.toMatrix() : null;
+    }
+
+    /**
+     * Gets the shape of the held brick without copying it, or null if no brick is held.
+     * 
+     * @return the shared shape of the held brick, or null
+     */
+    public BrickShape getHeldBrickShape() {
+        return heldBrickData;
     }
 }
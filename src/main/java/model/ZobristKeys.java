@@ -0,0 +1,96 @@
+package model;
+
+import com.comp2042.logic.bricks.Brick;
+
+import java.util.SplittableRandom;
+
+/**
+ * Random keys for Zobrist hashing of game positions. A position's hash is the XOR of one
+ * key per filled cell, plus keys for the falling piece type, the hold slot and the queue
+ * position. XOR is its own inverse, so filling or emptying a cell updates a hash with one
+ * XOR and a hash can be maintained in time proportional to the cells that change.
+ * {@link BoardFeatures} keeps the settled-cell part up to date as pieces are placed.
+ * <p>
+ * Keys come from a fixed seed, so hashes are the same from one run to the next.
+ *
+ * @author COMP2042 Coursework
+ */
+public final class ZobristKeys {
+
+    private static final int MAX_ROWS = 62;
+    private static final int MAX_COLUMNS = 30;
+    // Built-in type ids are 1 to 7, custom bricks use 0
+    private static final int PIECE_TYPES = 8;
+    private static final int QUEUE_POSITIONS = 64;
+
+    private static final long[] CELLS = new long[MAX_ROWS * MAX_COLUMNS];
+    private static final long[] CURRENT = new long[PIECE_TYPES];
+    // One more slot for an empty hold
+    private static final long[] HELD = new long[PIECE_TYPES + 1];
+    private static final long[] QUEUE = new long[QUEUE_POSITIONS];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x2042_2042_2042_2042L);
+        fill(CELLS, random);
+        fill(CURRENT, random);
+        fill(HELD, random);
+        fill(QUEUE, random);
+    }
+
+    private ZobristKeys() {
+    }
+
+    private static void fill(long[] keys, SplittableRandom random) {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong();
+        }
+    }
+
+    /**
+     * Gets the key of a filled cell.
+     *
+     * @param row the row, 0 being the top (at most 61)
+     * @param column the column (at most 29)
+     * @return the key
+     */
+    public static long cell(int row, int column) {
+        return CELLS[row * MAX_COLUMNS + column];
+    }
+
+    /**
+     * Gets the combined key of the filled cells of a row.
+     *
+     * @param row the row
+     * @param mask the filled columns, bit c set when column c is filled
+     * @return the XOR of the keys of the filled cells
+     */
+    public static long row(int row, int mask) {
+        long key = 0L;
+        int base = row * MAX_COLUMNS;
+        for (int bits = mask; bits != 0; bits &= bits - 1) {
+            key ^= CELLS[base + Integer.numberOfTrailingZeros(bits)];
+        }
+        return key;
+    }
+
+    /**
+     * Extends the hash of a board's settled cells to a full position.
+     *
+     * @param boardHash the hash of the settled cells, e.g. {@link BoardFeatures#getHash()}
+     * @param current the piece about to fall, or null if unknown
+     * @param held the brick in the hold slot, or null if empty
+     * @param queueIndex how far the upcoming-piece queue has advanced
+     * @return the position hash
+     */
+    public static long position(long boardHash, Brick current, Brick held, int queueIndex) {
+        long hash = boardHash ^ HELD[held == null ? PIECE_TYPES : typeIndex(held)];
+        if (current != null) {
+            hash ^= CURRENT[typeIndex(current)];
+        }
+        return hash ^ QUEUE[queueIndex & (QUEUE_POSITIONS - 1)];
+    }
+
+    private static int typeIndex(Brick brick) {
+        return brick.getTypeId() & (PIECE_TYPES - 1);
+    }
+}
@@ -2,16 +2,42 @@ package view;
 
 import model.MatrixOperations;
 
+import java.util.function.Supplier;
+
 public final class ClearRow {
 
     private final int linesRemoved;
     private final int[][] newMatrix;
+    private final Supplier<int[][]> matrixSource;
     private final int scoreBonus;
+    private final long clearedRowMask;
 
     public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus) {
+        this(linesRemoved, newMatrix, scoreBonus, 0L);
+    }
+
+    /**
+     * @param clearedRowMask bit r is set when row r (counted from the top, before
+     *                       compaction) was removed; rows beyond 63 are not reported
+     */
+    public ClearRow(int linesRemoved, int[][] newMatrix, int scoreBonus, long clearedRowMask) {
         this.linesRemoved = linesRemoved;
         this.newMatrix = newMatrix;
+        this.matrixSource = null;
         this.scoreBonus = scoreBonus;
+        this.clearedRowMask = clearedRowMask;
+    }
+
+    /**
+     * Creates a result whose matrix is fetched only when {@link #getNewMatrix()} is called,
+     * for boards that do not keep an ordered matrix around after every clear.
+     */
+    public ClearRow(int linesRemoved, Supplier<int[][]> matrixSource, int scoreBonus, long clearedRowMask) {
+        this.linesRemoved = linesRemoved;
+        this.newMatrix = null;
+        this.matrixSource = matrixSource;
+        this.scoreBonus = scoreBonus;
+        this.clearedRowMask = clearedRowMask;
     }
 
     public int getLinesRemoved() {
@@ -19,10 +45,14 @@ public final class ClearRow {
     }
 
     public int[][] getNewMatrix() {
-        return MatrixOperations.copy(newMatrix);
+        return MatrixOperations.copy(newMatrix != null ? newMatrix : matrixSource.get());
     }
 
     public int getScoreBonus() {
         return scoreBonus;
     }
+
+    public long getClearedRowMask() {
+        return clearedRowMask;
+    }
 }
@@ -0,0 +1,62 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BrickShapeTest {
+
+    @Test
+    void precomputesCellsBoundingBoxMasksAndSkirt() {
+        BrickShape shape = new BrickShape(new int[][]{
+                {0, 0, 0, 0},
+                {6, 6, 6, 0},
+                {0, 6, 0, 0},
+                {0, 0, 0, 0}
+        });
+
+        assertEquals(4, shape.getCellCount());
+        assertEquals(1, shape.getCellRow(0), "Cells should be listed in row-major order");
+        assertEquals(0, shape.getCellColumn(0));
+        assertEquals(6, shape.getCellColor(0));
+
+        assertEquals(1, shape.getMinRow());
+        assertEquals(2, shape.getMaxRow());
+        assertEquals(0, shape.getMinColumn());
+        assertEquals(2, shape.getMaxColumn());
+
+        assertEquals(0b0111, shape.getRowMask(1));
+        assertEquals(0b0010, shape.getRowMask(2));
+
+        assertEquals(1, shape.getSkirt(0));
+        assertEquals(2, shape.getSkirt(1));
+        assertEquals(1, shape.getSkirt(2));
+        assertEquals(-1, shape.getSkirt(3), "Empty columns have no skirt");
+    }
+
+    @Test
+    void shapeIsIsolatedFromSourceAndCopies() {
+        int[][] source = {{1, 0}, {1, 1}};
+        BrickShape shape = new BrickShape(source);
+
+        source[0][0] = 0;
+        int[][] copy = shape.toMatrix();
+        copy[1][1] = 0;
+
+        assertEquals(1, shape.getCell(0, 0));
+        assertEquals(1, shape.getCell(1, 1));
+    }
+
+    @Test
+    void builtInBricksShareTheirRotationTable() {
+        Brick brick = new TBrick();
+        List<BrickShape> shapes = brick.getShapes();
+
+        assertSame(shapes, brick.getShapes(), "Shape tables should be returned without copying");
+        assertSame(shapes, new TBrick().getShapes(), "Shape tables should be shared between instances");
+        assertThrows(UnsupportedOperationException.class, () -> shapes.add(shapes.get(0)));
+        assertArrayEquals(shapes.get(0).toMatrix(), brick.getShapeMatrix().get(0));
+    }
+}
@@ -0,0 +1,78 @@
+package com.comp2042.logic.bricks;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SeededBrickGeneratorTest {
+
+    @Test
+    void sameSeedGivesSameSequenceOnAnyThread() throws Exception {
+        List<Class<?>> expected = draw(new SeededBrickGenerator(1234L), 500);
+        List<Class<?>> onOtherThread = CompletableFuture
+                .supplyAsync(() -> draw(new SeededBrickGenerator(1234L), 500))
+                .get();
+
+        assertEquals(expected, onOtherThread);
+        assertNotEquals(expected, draw(new SeededBrickGenerator(4321L), 500), "Different seeds should differ");
+    }
+
+    @Test
+    void sevenBagDealsEveryBrickOncePerBag() {
+        SeededBrickGenerator generator = new SeededBrickGenerator(99L);
+        for (int bag = 0; bag < 50; bag++) {
+            Set<Class<?>> seen = new HashSet<>(draw(generator, 7));
+            assertEquals(7, seen.size(), "Bag " + bag + " should contain all seven bricks");
+        }
+    }
+
+    @Test
+    void previewQueueMatchesUpcomingBricks() {
+        SeededBrickGenerator generator = new SeededBrickGenerator(7L, SeededBrickGenerator.Mode.UNIFORM, 5);
+        assertEquals(5, generator.getPreviewSize());
+        List<Brick> preview = generator.getPreview();
+
+        for (int step = 0; step < 100; step++) {
+            List<Brick> upcoming = new ArrayList<>(preview);
+            assertSame(generator.getNextBrick(), generator.getPreviewBrick(0));
+            assertSame(upcoming.get(0), generator.getBrick());
+            // The live view has advanced by one, keeping the remaining order
+            for (int i = 1; i < 5; i++) {
+                assertSame(upcoming.get(i), preview.get(i - 1));
+            }
+        }
+        assertThrows(IndexOutOfBoundsException.class, () -> generator.getPreviewBrick(5));
+        assertThrows(UnsupportedOperationException.class, () -> preview.add(new IBrick()));
+    }
+
+    @Test
+    void copyContinuesTheSequenceIndependently() {
+        SeededBrickGenerator generator = new SeededBrickGenerator(21L, SeededBrickGenerator.Mode.SEVEN_BAG, 3);
+        draw(generator, 10);
+        SeededBrickGenerator copy = generator.copy();
+
+        List<Class<?>> original = draw(generator, 100);
+        assertEquals(original, draw(copy, 100));
+        assertEquals(generator.getPreview(), copy.getPreview());
+    }
+
+    @Test
+    void rejectsEmptyPreview() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new SeededBrickGenerator(1L, SeededBrickGenerator.Mode.SEVEN_BAG, 0));
+    }
+
+    private static List<Class<?>> draw(BrickGenerator generator, int count) {
+        List<Class<?>> types = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            types.add(generator.getBrick().getClass());
+        }
+        return types;
+    }
+}
@@ -0,0 +1,111 @@
+package controller.bot;
+
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import controller.game.HeadlessGameController;
+import model.BoardSnapshot;
+import model.DownData;
+import model.SimpleBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BeamSearchBotTest {
+
+    @Test
+    void playsHeadlessGamesWithoutToppingOut() {
+        HeadlessGameController game = new HeadlessGameController(new SimpleBoard(25, 10, new SeededBrickGenerator(5L)));
+        BotDriver driver = new BotDriver(game, game.getBoard(), new BeamSearchBot(16, 1000));
+        int lines = 0;
+        for (int piece = 0; piece < 150; piece++) {
+            BeamSearchBot.Plan plan = driver.plan();
+            assertNotNull(plan);
+            assertTrue(plan.getDepth() > 1, "A generous budget should look past the current piece");
+            DownData downData = driver.play(plan);
+            assertNotNull(downData, "A fresh plan always applies");
+            lines += downData.getClearRow().getLinesRemoved();
+            assertFalse(game.isGameOver(), "Topped out after " + piece + " pieces");
+        }
+        assertTrue(lines >= 50, "Only " + lines + " lines in 150 pieces");
+    }
+
+    @Test
+    void resultDoesNotDependOnParallelism() {
+        SimpleBoard board = new SimpleBoard(25, 10, new SeededBrickGenerator(11L));
+        HeadlessGameController game = new HeadlessGameController(board);
+        BeamSearchBot sequential = new BeamSearchBot(32, 10_000, BeamSearchBot.defaultWeights(), new ForkJoinPool(1));
+        BeamSearchBot parallel = new BeamSearchBot(32, 10_000, BeamSearchBot.defaultWeights(), new ForkJoinPool(4));
+        BotDriver driver = new BotDriver(game, board, sequential);
+        for (int piece = 0; piece < 20; piece++) {
+            BoardSnapshot snapshot = board.snapshot();
+            BeamSearchBot.Plan expected = sequential.plan(snapshot);
+            BeamSearchBot.Plan actual = parallel.plan(snapshot);
+            assertEquals(expected.getPlacementState(), actual.getPlacementState());
+            assertEquals(expected.usesHold(), actual.usesHold());
+            assertEquals(expected.getValue(), actual.getValue());
+            driver.play(expected);
+        }
+    }
+
+    @Test
+    void zeroBudgetStillReturnsTheBestImmediatePlacement() {
+        SimpleBoard board = new SimpleBoard(25, 10, new SeededBrickGenerator(3L));
+        board.createNewBrick();
+        BeamSearchBot.Plan plan = new BeamSearchBot(8, 0).plan(board.snapshot());
+        assertNotNull(plan);
+        assertEquals(1, plan.getDepth());
+    }
+
+    @Test
+    void interruptingThePlannerEndsTheSearchAfterDepthOne() {
+        SimpleBoard board = new SimpleBoard(25, 10, new SeededBrickGenerator(3L));
+        board.createNewBrick();
+        Thread.currentThread().interrupt();
+        try {
+            BeamSearchBot.Plan plan = new BeamSearchBot(8, 10_000).plan(board.snapshot());
+            assertNotNull(plan);
+            assertEquals(1, plan.getDepth());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    void cancelledSearchesReturnNothingAndLeaveOthersAlone() throws Exception {
+        SimpleBoard board = new SimpleBoard(25, 10, new SeededBrickGenerator(3L));
+        board.createNewBrick();
+        BoardSnapshot snapshot = board.snapshot();
+        BeamSearchBot bot = new BeamSearchBot(8, 10_000);
+        assertNull(bot.plan(snapshot, () -> true));
+
+        // Cancelled part way through a search that would otherwise run for ten seconds
+        AtomicInteger polls = new AtomicInteger();
+        long start = System.nanoTime();
+        assertNull(bot.plan(snapshot, () -> polls.incrementAndGet() > 20));
+        assertTrue(System.nanoTime() - start < TimeUnit.SECONDS.toNanos(5), "Cancellation was not noticed");
+
+        // A search waiting for the bot gives up without ever starting
+        AtomicBoolean release = new AtomicBoolean();
+        Thread running = Thread.ofPlatform().start(() -> bot.plan(snapshot, release::get));
+        Thread.sleep(50);
+        assertNull(bot.plan(snapshot, () -> true));
+        release.set(true);
+        running.join();
+
+        BeamSearchBot.Plan plan = new BeamSearchBot(8, 0).plan(snapshot, () -> false);
+        assertNotNull(plan, "A search nobody cancels still plans");
+    }
+
+    @Test
+    void stalePlansAreNotApplied() {
+        HeadlessGameController game = new HeadlessGameController(new SimpleBoard(25, 10, new SeededBrickGenerator(8L)));
+        BotDriver driver = new BotDriver(game, game.getBoard(), new BeamSearchBot(4, 0));
+        BeamSearchBot.Plan plan = driver.plan();
+        game.getBoard().moveBrickDown();
+        assertNull(driver.play(plan));
+    }
+}
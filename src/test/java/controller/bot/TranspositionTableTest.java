@@ -0,0 +1,73 @@
+package controller.bot;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranspositionTableTest {
+
+    @Test
+    void keepsTheBestValuePerPositionAndPass() {
+        TranspositionTable table = new TranspositionTable(1024);
+        assertTrue(table.offer(42L, 1, 1.0));
+        assertTrue(table.offer(42L, 1, 2.0), "A better value replaces the entry");
+        assertFalse(table.offer(42L, 1, 1.5), "A worse value is rejected");
+        assertTrue(table.offer(42L, 1, 2.0), "Ties are kept for the caller to break");
+        assertFalse(table.isBest(42L, 1, 1.0));
+        assertTrue(table.isBest(42L, 1, 2.0));
+
+        assertTrue(table.offer(42L, 2, 0.5), "Entries of another pass are ignored");
+        assertTrue(table.isBest(7L, 1, -100.0), "Unknown positions are never beaten");
+        table.clear();
+        assertTrue(table.isBest(42L, 2, 0.0));
+    }
+
+    @Test
+    void staysBoundedAndConsistentUnderConcurrentOffers() throws Exception {
+        TranspositionTable table = new TranspositionTable(4096);
+        assertEquals(4096, table.getCapacity());
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 4; thread++) {
+                int seed = thread;
+                futures.add(executor.submit(() -> {
+                    SplittableRandom random = new SplittableRandom(seed);
+                    for (int i = 0; i < 100_000; i++) {
+                        // A small key space, so threads keep colliding on the same entries
+                        table.offer(key(random.nextInt(256)), 1, random.nextDouble());
+                        if (i % 1000 == 0) {
+                            // Each key's best value comes from exactly one thread
+                            int owned = (i / 1000 % 64) * 4 + seed;
+                            table.offer(key(owned), 1, 2.0);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        int best = 0;
+        for (int i = 0; i < 256; i++) {
+            if (table.isBest(key(i), 1, 2.0) && !table.offer(key(i), 1, 1.5)) {
+                best++;
+            }
+        }
+        assertEquals(256, best, "Every key should still hold the best value offered for it");
+    }
+
+    private static long key(int index) {
+        // Spread like a Zobrist hash over stripes and buckets
+        return (index + 1) * 0x9E3779B97F4A7C15L;
+    }
+}
@@ -0,0 +1,56 @@
+package controller.bot;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeightTunerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void resumedRunMatchesAnUninterruptedOne() throws Exception {
+        ForkJoinPool pool = new ForkJoinPool(2);
+        try {
+            WeightTuner straight = new WeightTuner(6, 2, 40, 99L, pool);
+            double[] expected = straight.run(3);
+
+            Path checkpoint = directory.resolve("checkpoint.txt");
+            Path output = directory.resolve("weights.txt");
+            WeightTuner first = new WeightTuner(6, 2, 40, 99L, pool);
+            first.setCheckpoint(checkpoint);
+            first.setOutput(output);
+            first.run(2);
+            assertTrue(Files.isRegularFile(output));
+
+            WeightTuner resumed = new WeightTuner(6, 2, 40, 99L, pool);
+            resumed.resume(checkpoint);
+            assertEquals(2, resumed.getGeneration());
+            assertArrayEquals(expected, resumed.run(3));
+            assertEquals(straight.getBestFitness(), resumed.getBestFitness());
+
+            WeightTuner otherSettings = new WeightTuner(6, 3, 40, 99L, pool);
+            assertThrows(IllegalArgumentException.class, () -> otherSettings.resume(checkpoint));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void weightsFilesRoundTripAndRejectMissingFeatures() throws Exception {
+        Path path = directory.resolve("bot-weights.txt");
+        double[] weights = {-0.5, -0.35, -0.18, -0.05, -0.05, -0.02, 0.76};
+        WeightsFile.write(path, weights, "test");
+        assertArrayEquals(weights, WeightsFile.read(path));
+        assertArrayEquals(BeamSearchBot.defaultWeights(), WeightsFile.readOrDefault(directory.resolve("missing.txt")));
+
+        Files.writeString(path, "HOLES=-1\n");
+        assertThrows(IllegalArgumentException.class, () -> WeightsFile.read(path));
+    }
+}
@@ -0,0 +1,51 @@
+package controller.game;
+
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import model.MatrixOperations;
+import model.SimpleBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HeadlessGameControllerTest {
+
+    private static final MoveEvent HARD_DROP = new MoveEvent(EventType.HARD_DROP, EventSource.BOT);
+    private static final MoveEvent REWIND = new MoveEvent(EventType.REWIND, EventSource.USER);
+
+    @Test
+    void rewindsWhenRecordingHistory() {
+        HeadlessGameController game = new HeadlessGameController(new SimpleBoard(25, 10, new SeededBrickGenerator(3L)), true);
+        int[] before = game.getBoard().getBoardMatrix()[24].clone();
+        game.onHardDropEvent(HARD_DROP);
+        assertFalse(Arrays.equals(before, game.getBoard().getBoardMatrix()[24]));
+
+        game.onRewindEvent(REWIND);
+        assertArrayEquals(before, game.getBoard().getBoardMatrix()[24], "The locked piece should be taken back");
+    }
+
+    @Test
+    void rewindingTheToppingOutPieceRevivesTheGame() {
+        HeadlessGameController game = new HeadlessGameController(new SimpleBoard(25, 10, new SeededBrickGenerator(3L)), true);
+        int[][] beforeLastDrop = null;
+        while (!game.isGameOver()) {
+            beforeLastDrop = MatrixOperations.copy(game.getBoard().getBoardMatrix());
+            game.onHardDropEvent(HARD_DROP);
+        }
+
+        game.onRewindEvent(REWIND);
+        assertFalse(game.isGameOver());
+        assertArrayEquals(beforeLastDrop, game.getBoard().getBoardMatrix(), "Only the fatal piece should be taken back");
+    }
+
+    @Test
+    void ignoresRewindWithoutHistory() {
+        HeadlessGameController game = new HeadlessGameController(new SimpleBoard(25, 10, new SeededBrickGenerator(3L)));
+        game.onHardDropEvent(HARD_DROP);
+        int[] after = game.getBoard().getBoardMatrix()[24].clone();
+
+        game.onRewindEvent(REWIND);
+        assertArrayEquals(after, game.getBoard().getBoardMatrix()[24]);
+    }
+}
@@ -0,0 +1,62 @@
+package controller.gui;
+
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import model.SimpleBoard;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DirtyCellTrackerTest {
+
+    @Test
+    void repaintsOnlyTheCellsOfALockedPiece() {
+        SimpleBoard board = new SimpleBoard(25, 10, new SeededBrickGenerator(0L));
+        board.createNewBrick();
+        DirtyCellTracker tracker = new DirtyCellTracker(25, 10, 2);
+
+        assertEquals(0, tracker.update(board.getBoardMatrix(), (row, column, color) -> fail("Empty board")));
+
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        int[][] matrix = board.getBoardMatrix();
+        List<int[]> painted = new ArrayList<>();
+        assertEquals(4, tracker.update(matrix, (row, column, color) -> painted.add(new int[]{row, column, color})));
+        assertEquals(4, tracker.getLastRepaintCount());
+        for (int[] cell : painted) {
+            assertEquals(matrix[cell[0]][cell[1]], cell[2]);
+            assertNotEquals(0, cell[2]);
+        }
+
+        assertEquals(0, tracker.update(board.getBoardMatrix(), (row, column, color) -> fail("Nothing changed")));
+        assertEquals(0, tracker.getLastRepaintCount());
+    }
+
+    @Test
+    void clearingALineRepaintsTheRowsThatShifted() {
+        int[][] matrix = new int[25][10];
+        DirtyCellTracker tracker = new DirtyCellTracker(25, 10, 2);
+        matrix[23][0] = 1;
+        for (int col = 0; col < 10; col++) {
+            matrix[24][col] = 1;
+        }
+        assertEquals(11, tracker.update(matrix, (row, column, color) -> { }));
+
+        // The full bottom row clears and the lone cell above drops onto a cell of the same colour
+        int[][] cleared = new int[25][10];
+        cleared[24][0] = 1;
+        assertEquals(10, tracker.update(cleared, (row, column, color) -> { }));
+    }
+
+    @Test
+    void hiddenRowsAreNeverPainted() {
+        int[][] matrix = new int[25][10];
+        matrix[0][0] = 1;
+        matrix[1][9] = 1;
+        DirtyCellTracker tracker = new DirtyCellTracker(25, 10, 2);
+
+        assertEquals(0, tracker.update(matrix, (row, column, color) -> fail("Hidden row painted")));
+    }
+}
@@ -0,0 +1,108 @@
+package model;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Runs the SimpleBoardTest suite against the bitboard, plus a move-for-move replay against SimpleBoard
+class BitboardBoardTest extends SimpleBoardTest {
+
+    @Override
+    Board newBoard(BrickGenerator generator) {
+        return new BitboardBoard(25, 10, generator);
+    }
+
+    @Test
+    void playsIdenticallyToSimpleBoard() {
+        List<Brick> sequence = new ArrayList<>();
+        RandomBrickGenerator source = new RandomBrickGenerator();
+        for (int i = 0; i < 200; i++) {
+            sequence.add(source.getBrick());
+        }
+        SimpleBoard simple = new SimpleBoard(25, 10, new SequenceBrickGenerator(sequence));
+        BitboardBoard bitboard = new BitboardBoard(25, 10, new SequenceBrickGenerator(sequence));
+        simple.createNewBrick();
+        bitboard.createNewBrick();
+
+        Random random = new Random(42);
+        BoardSnapshot[] saved = null;
+        for (int step = 0; step < 5000; step++) {
+            int action = random.nextInt(10);
+            switch (action) {
+                case 0 -> assertEquals(simple.moveBrickLeft(), bitboard.moveBrickLeft());
+                case 1 -> assertEquals(simple.moveBrickRight(), bitboard.moveBrickRight());
+                case 2 -> assertEquals(simple.rotateLeftBrick(), bitboard.rotateLeftBrick());
+                case 3 -> assertEquals(simple.holdBrick(), bitboard.holdBrick());
+                case 4 -> assertEquals(simple.rotateRightBrick(), bitboard.rotateRightBrick());
+                case 5 -> {
+                    int hole = random.nextInt(10);
+                    if (random.nextInt(4) == 0) {
+                        simple.queueGarbage(1 + random.nextInt(2), hole);
+                        bitboard.queueGarbage(simple.getPendingGarbage() - bitboard.getPendingGarbage(), hole);
+                    } else if (random.nextInt(4) == 0
+                            && (simple.insertGarbage(1, hole) | bitboard.insertGarbage(1, hole))) {
+                        simple.newGame();
+                        bitboard.newGame();
+                    }
+                }
+                case 6 -> {
+                    // Rewind now and then, so restores only rewrite the rows written since
+                    if (saved == null || random.nextBoolean()) {
+                        saved = new BoardSnapshot[]{simple.snapshot(), bitboard.snapshot()};
+                    } else {
+                        simple.restore(saved[0]);
+                        bitboard.restore(saved[1]);
+                    }
+                }
+                default -> {
+                    assertEquals(simple.getHardDropDistance(), bitboard.getHardDropDistance());
+                    simple.hardDropBrick();
+                    bitboard.hardDropBrick();
+                    simple.mergeBrickToBackground();
+                    bitboard.mergeBrickToBackground();
+                    assertEquals(simple.clearRows().getLinesRemoved(), bitboard.clearRows().getLinesRemoved());
+                    boolean toppedOut = simple.applyPendingGarbage() | bitboard.applyPendingGarbage();
+                    if (simple.createNewBrick() | bitboard.createNewBrick() | toppedOut) {
+                        simple.newGame();
+                        bitboard.newGame();
+                    }
+                }
+            }
+            ViewData expected = simple.getViewData();
+            ViewData actual = bitboard.getViewData();
+            assertEquals(expected.getxPosition(), actual.getxPosition(), "x diverged at step " + step);
+            assertEquals(expected.getyPosition(), actual.getyPosition(), "y diverged at step " + step);
+            assertArrayEquals(expected.getBrickData(), actual.getBrickData(), "shape diverged at step " + step);
+            assertEquals(simple.getPieceState(), bitboard.getPieceState(), "piece state diverged at step " + step);
+            assertArrayEquals(simple.getBoardMatrixView(), bitboard.getBoardMatrixView(), "board diverged at step " + step);
+        }
+    }
+
+    private static class SequenceBrickGenerator implements BrickGenerator {
+        private final List<Brick> sequence;
+        private int index;
+
+        SequenceBrickGenerator(List<Brick> sequence) {
+            this.sequence = sequence;
+        }
+
+        @Override
+        public Brick getBrick() {
+            Brick brick = sequence.get(index % sequence.size());
+            index++;
+            return brick;
+        }
+
+        @Override
+        public Brick getNextBrick() {
+            return sequence.get(index % sequence.size());
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package model;
+
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardFeaturesTest {
+
+    @Test
+    void incrementalFeaturesMatchAFullRescanDuringPlay() {
+        SimpleBoard board = new SimpleBoard(25, 10, new SeededBrickGenerator(12L));
+        board.createNewBrick();
+        BoardFeatures features = new BoardFeatures(25, 10);
+        BoardFeatures reloaded = new BoardFeatures(25, 10);
+        Random random = new Random(9);
+
+        for (int piece = 0; piece < 1500; piece++) {
+            for (int move = random.nextInt(8); move > 0; move--) {
+                switch (random.nextInt(3)) {
+                    case 0 -> board.moveBrickLeft();
+                    case 1 -> board.moveBrickRight();
+                    default -> board.rotateLeftBrick();
+                }
+            }
+            board.hardDropBrick();
+            ViewData view = board.getViewData();
+            BrickShape shape = view.getBrickShape();
+            int cleared = features.place(shape, view.getxPosition(), view.getyPosition());
+            board.mergeBrickToBackground();
+            assertEquals(board.clearRows().getLinesRemoved(), cleared);
+
+            int[][] matrix = board.getBoardMatrix();
+            reloaded.load(board.snapshot());
+            for (BoardFeatures.Feature feature : BoardFeatures.Feature.values()) {
+                int expected = feature == BoardFeatures.Feature.LINES_CLEARED ? cleared : rescan(matrix, feature);
+                assertEquals(expected, features.get(feature), feature + " diverged at piece " + piece);
+                if (feature != BoardFeatures.Feature.LINES_CLEARED) {
+                    assertEquals(expected, reloaded.get(feature), feature + " after load at piece " + piece);
+                }
+            }
+            assertEquals(reloaded.getHash(), features.getHash(), "Hash diverged at piece " + piece);
+            if (board.createNewBrick()) {
+                board.newGame();
+                features.clear();
+            }
+        }
+    }
+
+    @Test
+    void scoringAPlacementLeavesTheBoardUntouched() {
+        SimpleBoard board = new SimpleBoard(25, 10, new SeededBrickGenerator(2L));
+        board.createNewBrick();
+        BoardFeatures features = new BoardFeatures(25, 10);
+        double[] weights = {-0.51, -0.36, -0.18, -0.1, -0.2, -0.05, 0.76};
+        double before = features.score(weights);
+
+        ViewData view = board.getViewData();
+        double probed = features.scorePlacement(view.getBrickShape(), view.getxPosition(), view.getLandingRow(), weights);
+        assertEquals(before, features.score(weights), "Scoring must not modify the board");
+
+        features.place(view.getBrickShape(), view.getxPosition(), view.getLandingRow());
+        assertEquals(probed, features.score(weights), 1e-9);
+        assertThrows(IllegalArgumentException.class, () -> features.score(new double[3]));
+    }
+
+    /**
+     * Straightforward cell-by-cell definitions, independent of the bitboard code.
+     */
+    private static int rescan(int[][] matrix, BoardFeatures.Feature feature) {
+        int rows = matrix.length;
+        int columns = matrix[0].length;
+        int[] heights = new int[columns];
+        for (int col = 0; col < columns; col++) {
+            for (int row = 0; row < rows; row++) {
+                if (matrix[row][col] != 0) {
+                    heights[col] = rows - row;
+                    break;
+                }
+            }
+        }
+        int total = 0;
+        switch (feature) {
+            case AGGREGATE_HEIGHT -> {
+                for (int height : heights) {
+                    total += height;
+                }
+            }
+            case HOLES -> {
+                for (int col = 0; col < columns; col++) {
+                    for (int row = rows - heights[col]; row < rows; row++) {
+                        total += matrix[row][col] == 0 ? 1 : 0;
+                    }
+                }
+            }
+            case BUMPINESS -> {
+                for (int col = 1; col < columns; col++) {
+                    total += Math.abs(heights[col] - heights[col - 1]);
+                }
+            }
+            case ROW_TRANSITIONS -> {
+                for (int[] cells : matrix) {
+                    boolean previous = true;
+                    for (int col = 0; col <= columns; col++) {
+                        boolean filled = col == columns || cells[col] != 0;
+                        total += filled != previous ? 1 : 0;
+                        previous = filled;
+                    }
+                }
+            }
+            case COLUMN_TRANSITIONS -> {
+                for (int col = 0; col < columns; col++) {
+                    for (int row = 0; row < rows; row++) {
+                        boolean filled = matrix[row][col] != 0;
+                        boolean below = row == rows - 1 || matrix[row + 1][col] != 0;
+                        total += filled != below ? 1 : 0;
+                    }
+                }
+            }
+            case WELLS -> {
+                for (int col = 0; col < columns; col++) {
+                    int left = col == 0 ? rows : heights[col - 1];
+                    int right = col == columns - 1 ? rows : heights[col + 1];
+                    for (int depth = 1; depth <= Math.min(left, right) - heights[col]; depth++) {
+                        total += depth;
+                    }
+                }
+            }
+            default -> throw new IllegalArgumentException(feature.toString());
+        }
+        return total;
+    }
+}
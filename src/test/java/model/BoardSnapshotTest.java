@@ -0,0 +1,106 @@
+package model;
+
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Random;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BoardSnapshotTest {
+
+    @Test
+    void restoringReplaysTheSameGameOnBothBoards() {
+        assertRestoreReplays(() -> new SimpleBoard(25, 10, new SeededBrickGenerator(5L)));
+        assertRestoreReplays(() -> new BitboardBoard(25, 10, new SeededBrickGenerator(5L)));
+    }
+
+    private static void assertRestoreReplays(Supplier<Board> boards) {
+        Board board = boards.get();
+        board.createNewBrick();
+        play(board, new Random(1), 300);
+        board.queueGarbage(2, 3);
+        board.getPowerUpManager().awardSkillPoints(500);
+        BoardSnapshot snapshot = board.snapshot();
+
+        play(board, new Random(2), 300);
+        int[][] expectedMatrix = copy(board.getBoardMatrix());
+        int expectedPiece = board.getPieceState();
+        int expectedScore = board.getScore().getValue();
+
+        board.restore(snapshot);
+        assertEquals(snapshot.getPieceState(), board.getPieceState());
+        assertEquals(2, board.getPendingGarbage());
+        play(board, new Random(2), 300);
+        assertArrayEquals(expectedMatrix, board.getBoardMatrix(), "Replay from the snapshot should match");
+        assertEquals(expectedPiece, board.getPieceState());
+        assertEquals(expectedScore, board.getScore().getValue());
+    }
+
+    @Test
+    void consecutiveSnapshotsShareUnchangedRowsAcrossLineClears() {
+        SimpleBoard board = new SimpleBoard(25, 10);
+        board.createNewBrick();
+        int[][] matrix = board.getBoardMatrix();
+        for (int col = 0; col < 10; col++) {
+            matrix[20][col] = col == 0 ? 0 : 2;
+            matrix[22][col] = 3;
+            matrix[24][col] = col == 9 ? 0 : 4;
+        }
+        BoardSnapshot before = board.snapshot();
+        board.clearRows();
+        BoardSnapshot after = board.snapshot();
+
+        assertEquals(2, after.getCell(21, 1), "Row 20 should have moved down by the cleared row");
+        assertSame(before.rows[20], after.rows[21], "Shifted rows are shared, not copied");
+        assertTrue(before.sharesRow(after, 24));
+        assertTrue(before.sharesRow(after, 0), "Empty rows are shared too");
+    }
+
+    @Test
+    void tenThousandSnapshotsStoreFewDistinctRows() {
+        SimpleBoard board = new SimpleBoard(25, 10, new SeededBrickGenerator(11L));
+        board.createNewBrick();
+        Random random = new Random(3);
+        Set<int[]> distinctRows = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < 10_000; i++) {
+            play(board, random, 1);
+            BoardSnapshot snapshot = board.snapshot();
+            Collections.addAll(distinctRows, snapshot.rows);
+        }
+        // Each row array of 10 ints costs about 56 bytes; most snapshots add only the rows a brick touched
+        assertTrue(distinctRows.size() < 5 * 10_000, "Rows should be shared, got " + distinctRows.size());
+    }
+
+    private static void play(Board board, Random random, int pieces) {
+        for (int piece = 0; piece < pieces; piece++) {
+            for (int move = random.nextInt(6); move > 0; move--) {
+                switch (random.nextInt(3)) {
+                    case 0 -> board.moveBrickLeft();
+                    case 1 -> board.moveBrickRight();
+                    default -> board.rotateLeftBrick();
+                }
+            }
+            board.getScore().add(board.getHardDropDistance());
+            board.hardDropBrick();
+            board.mergeBrickToBackground();
+            board.getScore().add(board.clearRows().getScoreBonus());
+            boolean toppedOut = board.applyPendingGarbage();
+            if (board.createNewBrick() || toppedOut) {
+                board.newGame();
+            }
+        }
+    }
+
+    private static int[][] copy(int[][] matrix) {
+        int[][] copy = new int[matrix.length][];
+        for (int row = 0; row < matrix.length; row++) {
+            copy[row] = matrix[row].clone();
+        }
+        return copy;
+    }
+}
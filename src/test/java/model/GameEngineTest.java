@@ -0,0 +1,75 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+import view.ClearRow;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameEngineTest {
+
+    @Test
+    void hardDropsPlayUntilGameOverWithoutAnyGui() {
+        GameEngine engine = new GameEngine(new SimpleBoard(25, 10));
+        int[] skillPointUpdates = new int[1];
+        engine.getPowerUpManager().addSkillPointsListener((oldValue, newValue) -> skillPointUpdates[0]++);
+
+        int pieces = 0;
+        while (!engine.isGameOver() && pieces < 1000) {
+            ClearRow clearRow = engine.hardDrop();
+            assertNotNull(clearRow, "Hard drop always locks the brick");
+            pieces++;
+        }
+
+        assertTrue(engine.isGameOver(), "Stacking in the middle should eventually top out");
+        assertTrue(engine.getScore().getValue() > 0, "Hard drops earn 2 points per row");
+        assertTrue(skillPointUpdates[0] > 0, "Skill points listener should have fired");
+
+        engine.newGame();
+        assertFalse(engine.isGameOver());
+        assertEquals(0, engine.getScore().getValue());
+        assertEquals(0, engine.getPowerUpManager().getSkillPoints());
+    }
+
+    @Test
+    void softDropScoresOnlyWhenUserInitiated() {
+        GameEngine engine = new GameEngine(new SimpleBoard(25, 10));
+
+        assertNull(engine.moveDown(false), "Brick should fall freely on an empty board");
+        assertEquals(0, engine.getScore().getValue());
+        assertNull(engine.moveDown(true));
+        assertEquals(1, engine.getScore().getValue());
+
+        ClearRow locked = null;
+        for (int i = 0; i < 30 && locked == null; i++) {
+            locked = engine.moveDown(false);
+        }
+        assertNotNull(locked, "Brick should lock once it reaches the floor");
+        assertFalse(engine.isGameOver());
+    }
+
+    @Test
+    void receivedGarbageIsPushedInWhenTheBrickLocks() {
+        GameEngine engine = new GameEngine(new SimpleBoard(25, 10));
+
+        engine.receiveGarbage(4, 3);
+        assertEquals(4, engine.getBoard().getPendingGarbage());
+        engine.hardDrop();
+        assertEquals(0, engine.getBoard().getPendingGarbage());
+        assertEquals(Board.GARBAGE_CELL, engine.getBoard().getBoardMatrix()[24][0]);
+        assertFalse(engine.isGameOver());
+
+        engine.receiveGarbage(25, 3);
+        engine.hardDrop();
+        assertTrue(engine.isGameOver(), "Garbage pushing the stack off the top ends the game");
+    }
+
+    @Test
+    void rowClearerPowerUpIsConsumedFromInventory() {
+        GameEngine engine = new GameEngine(new SimpleBoard(25, 10));
+
+        assertFalse(engine.activatePowerUp(PowerUp.ROW_CLEARER), "Nothing owned yet");
+        assertTrue(engine.purchasePowerUp(PowerUp.ROW_CLEARER));
+        assertTrue(engine.activatePowerUp(PowerUp.ROW_CLEARER));
+        assertEquals(0, engine.getPowerUpManager().getPowerUpQuantity(PowerUp.ROW_CLEARER));
+    }
+}
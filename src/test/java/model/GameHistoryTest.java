@@ -0,0 +1,72 @@
+package model;
+
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GameHistoryTest {
+
+    @Test
+    void rewindWalksBackThroughEveryLockedPiece() {
+        GameEngine engine = new GameEngine(new SimpleBoard(25, 10, new SeededBrickGenerator(8L)));
+        GameHistory history = new GameHistory();
+        history.record(engine.getBoard().snapshot());
+        List<int[][]> boards = new ArrayList<>();
+        List<Integer> scores = new ArrayList<>();
+        boards.add(copy(engine.getBoard().getBoardMatrix()));
+        scores.add(engine.getScore().getValue());
+
+        for (int piece = 0; piece < 2000; piece++) {
+            for (int i = piece % 5; i > 0; i--) {
+                if (piece % 2 == 0) {
+                    engine.moveLeft();
+                } else {
+                    engine.moveRight();
+                }
+            }
+            engine.hardDrop();
+            if (engine.isGameOver()) {
+                break;
+            }
+            history.record(engine.getBoard().snapshot());
+            boards.add(copy(engine.getBoard().getBoardMatrix()));
+            scores.add(engine.getScore().getValue());
+        }
+        assertEquals(boards.size(), history.size());
+
+        for (int entry = boards.size() - 2; entry >= 0; entry--) {
+            engine.restore(history.rewind(1));
+            assertArrayEquals(boards.get(entry), engine.getBoard().getBoardMatrix(), "Board differs at entry " + entry);
+            assertEquals(scores.get(entry), engine.getScore().getValue());
+        }
+        assertNull(history.rewind(1), "The starting state is never dropped");
+        assertEquals(1, history.size());
+    }
+
+    @Test
+    void restoringRevivesAGameThatWasOver() {
+        GameEngine engine = new GameEngine(new SimpleBoard(25, 10));
+        GameHistory history = new GameHistory();
+        history.record(engine.getBoard().snapshot());
+        while (!engine.isGameOver()) {
+            engine.hardDrop();
+            history.record(engine.getBoard().snapshot());
+        }
+
+        engine.restore(history.rewind(3));
+        assertFalse(engine.isGameOver());
+        assertNull(engine.moveDown(false), "The restored brick should be falling freely again");
+    }
+
+    private static int[][] copy(int[][] matrix) {
+        int[][] copy = new int[matrix.length][];
+        for (int row = 0; row < matrix.length; row++) {
+            copy[row] = matrix[row].clone();
+        }
+        return copy;
+    }
+}
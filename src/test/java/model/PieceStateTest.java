@@ -0,0 +1,60 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PieceStateTest {
+
+    @Test
+    void packsAndUnpacksAllFieldsIncludingNegativeCoordinates() {
+        int state = PieceState.of(7, 3, -2, 24);
+
+        assertEquals(7, PieceState.typeId(state));
+        assertEquals(3, PieceState.rotation(state));
+        assertEquals(-2, PieceState.x(state));
+        assertEquals(24, PieceState.y(state));
+
+        int moved = PieceState.moved(state, 1, -25);
+        assertEquals(-1, PieceState.x(moved));
+        assertEquals(-1, PieceState.y(moved));
+        assertEquals(7, PieceState.typeId(moved), "Moving must not disturb the type");
+        assertEquals(3, PieceState.rotation(moved), "Moving must not disturb the rotation");
+
+        int rotated = PieceState.withRotation(moved, 1);
+        assertEquals(1, PieceState.rotation(rotated));
+        assertEquals(-1, PieceState.x(rotated));
+        assertEquals(-1, PieceState.y(rotated));
+    }
+
+    @Test
+    void distinctStatesHaveDistinctKeys() {
+        Set<Integer> keys = new HashSet<>();
+        for (int type = 0; type < 8; type++) {
+            for (int rotation = 0; rotation < 4; rotation++) {
+                for (int x = -3; x < 12; x++) {
+                    for (int y = -2; y < 26; y++) {
+                        assertTrue(keys.add(PieceState.of(type, rotation, x, y)));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void boardReportsPackedStateOfFallingBrick() {
+        SimpleBoard board = new SimpleBoard(25, 10);
+        board.createNewBrick();
+        int spawned = board.getPieceState();
+        assertTrue(PieceState.typeId(spawned) >= 1 && PieceState.typeId(spawned) <= 7);
+        assertEquals(0, PieceState.rotation(spawned));
+
+        board.moveBrickDown();
+        ViewData view = board.getViewData();
+        assertEquals(view.getxPosition(), PieceState.x(board.getPieceState()));
+        assertEquals(view.getyPosition(), PieceState.y(board.getPieceState()));
+    }
+}
@@ -0,0 +1,132 @@
+package model;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PlacementEnumeratorTest {
+
+    @Test
+    void emptyBoardPlacementsAreDeduplicatedBySymmetry() throws Exception {
+        PlacementEnumerator enumerator = new PlacementEnumerator(25, 10);
+        assertEquals(9, countWithoutHold(enumerator, brickOfType(4)), "O: one placement per column pair");
+        assertEquals(17, countWithoutHold(enumerator, brickOfType(1)), "I: 7 horizontal + 10 vertical");
+        assertEquals(17, countWithoutHold(enumerator, brickOfType(5)), "S: 8 flat + 9 upright");
+        assertEquals(34, countWithoutHold(enumerator, brickOfType(6)));
+        assertEquals(34, countWithoutHold(enumerator, brickOfType(2)));
+    }
+
+    private static Brick brickOfType(int typeId) {
+        BrickGenerator generator = new SeededBrickGenerator(0L);
+        Brick brick = generator.getBrick();
+        while (brick.getTypeId() != typeId) {
+            brick = generator.getBrick();
+        }
+        return brick;
+    }
+
+    private static int countWithoutHold(PlacementEnumerator enumerator, Brick brick) throws Exception {
+        SimpleBoard board = new SimpleBoard(25, 10);
+        injectBrickGenerator(board, new RepeatingBrickGenerator(brick));
+        board.createNewBrick();
+        board.holdBrick();
+        return enumerator.enumerate(board.snapshot());
+    }
+
+    @Test
+    void everyPathReplaysToItsPlacementOnARealBoard() {
+        PlacementEnumerator enumerator = new PlacementEnumerator(25, 10);
+        SimpleBoard board = new SimpleBoard(25, 10, new SeededBrickGenerator(17L));
+        board.createNewBrick();
+        Random random = new Random(4);
+
+        for (int piece = 0; piece < 60; piece++) {
+            BoardSnapshot start = board.snapshot();
+            int placements = enumerator.enumerate(start);
+            assertTrue(placements > 0, "A piece that spawned can always lock somewhere");
+            for (int i = 0; i < placements; i++) {
+                board.restore(start);
+                for (PlacementEnumerator.Input input : enumerator.getPath(i)) {
+                    assertTrue(apply(board, input), "Input " + input + " of placement " + i + " was rejected");
+                }
+                assertEquals(enumerator.getPlacementState(i), board.getPieceState(), PieceState.toString(enumerator.getPlacementState(i)));
+                assertFalse(board.moveBrickDown(), "The piece should rest on the stack");
+            }
+
+            // Play a random placement to build up a messy stack
+            board.restore(start);
+            for (PlacementEnumerator.Input input : enumerator.getPath(random.nextInt(placements))) {
+                apply(board, input);
+            }
+            board.mergeBrickToBackground();
+            board.clearRows();
+            if (board.createNewBrick()) {
+                board.newGame();
+            }
+        }
+    }
+
+    @Test
+    void holdPlacementsStartWithHold() {
+        PlacementEnumerator enumerator = new PlacementEnumerator(25, 10);
+        SimpleBoard board = new SimpleBoard(25, 10, new SeededBrickGenerator(3L));
+        board.createNewBrick();
+        int placements = enumerator.enumerate(board.snapshot());
+        boolean sawHold = false;
+        for (int i = 0; i < placements; i++) {
+            List<PlacementEnumerator.Input> path = enumerator.getPath(i);
+            assertEquals(enumerator.usesHold(i), !path.isEmpty() && path.get(0) == PlacementEnumerator.Input.HOLD);
+            sawHold |= enumerator.usesHold(i);
+        }
+        assertTrue(sawHold);
+        assertThrows(IndexOutOfBoundsException.class, () -> enumerator.getPath(placements));
+    }
+
+    private static boolean apply(Board board, PlacementEnumerator.Input input) {
+        return switch (input) {
+            case HOLD -> board.holdBrick();
+            case LEFT -> board.moveBrickLeft();
+            case RIGHT -> board.moveBrickRight();
+            case ROTATE_LEFT -> board.rotateLeftBrick();
+            case ROTATE_RIGHT -> board.rotateRightBrick();
+            case SOFT_DROP -> {
+                boolean moved = false;
+                while (board.moveBrickDown()) {
+                    moved = true;
+                }
+                yield moved;
+            }
+        };
+    }
+
+    private static void injectBrickGenerator(SimpleBoard board, BrickGenerator generator) throws Exception {
+        Field field = SimpleBoard.class.getDeclaredField("brickGenerator");
+        field.setAccessible(true);
+        field.set(board, generator);
+    }
+
+    private static class RepeatingBrickGenerator implements BrickGenerator {
+        private final Brick brick;
+
+        RepeatingBrickGenerator(Brick brick) {
+            this.brick = brick;
+        }
+
+        @Override
+        public Brick getBrick() {
+            return brick;
+        }
+
+        @Override
+        public Brick getNextBrick() {
+            return brick;
+        }
+    }
+}
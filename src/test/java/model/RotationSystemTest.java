@@ -0,0 +1,111 @@
+package model;
+
+import com.comp2042.logic.bricks.Brick;
+import com.comp2042.logic.bricks.SeededBrickGenerator;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RotationSystemTest {
+
+    @Test
+    void kickTablesStartUnshiftedAndFlipVerticalOffsetsToBoardSpace() {
+        for (int type = 1; type <= 7; type++) {
+            for (int from = 0; from < 4; from++) {
+                for (boolean clockwise : new boolean[]{true, false}) {
+                    int to = RotationSystem.rotate(from, 4, clockwise);
+                    int[] kicks = RotationSystem.kicks(type, type == 4 ? 1 : 4, from, to);
+                    assertEquals(0, kicks[0]);
+                    assertEquals(0, kicks[1]);
+                    assertEquals(type == 4 ? 2 : 10, kicks.length, "Kick count for type " + type);
+                }
+            }
+        }
+        // T spawns pointing down (SRS state 2); clockwise goes to L: SRS 2->L is
+        // (0,0) (+1,0) (+1,+1) (0,-2) (+1,-2) with y up
+        assertArrayEquals(new int[]{0, 0, 1, 0, 1, -1, 0, 2, 1, 2}, RotationSystem.kicks(6, 4, 0, 3));
+        // I spawns in SRS state 0; clockwise goes to R
+        assertArrayEquals(new int[]{0, 0, -2, 0, 1, 0, -2, 1, 1, -2}, RotationSystem.kicks(1, 2, 0, 3));
+    }
+
+    @Test
+    void shapeTablesAreQuarterTurnsAboutTheSrsCentre() {
+        SeededBrickGenerator generator = new SeededBrickGenerator(0L);
+        for (int i = 0; i < 7; i++) {
+            Brick brick = generator.getBrick();
+            List<int[][]> shapes = brick.getShapeMatrix();
+            int typeId = brick.getTypeId();
+            if (typeId == 4) {
+                assertEquals(1, shapes.size());
+                continue;
+            }
+            assertEquals(4, shapes.size(), "Type " + typeId + " needs one shape per SRS state");
+            // I turns inside a 4x4 box, the others inside the top-left 3x3
+            int size = typeId == 1 ? 4 : 3;
+            for (int rotation = 0; rotation < 4; rotation++) {
+                int[][] from = shapes.get(rotation);
+                int[][] to = shapes.get((rotation + 1) % 4);
+                for (int row = 0; row < size; row++) {
+                    for (int col = 0; col < size; col++) {
+                        assertEquals(from[col][size - 1 - row], to[row][col],
+                                "Type " + typeId + " rotation " + rotation + " cell " + row + "," + col);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void customBricksKeepLegacyHorizontalKicks() {
+        assertEquals(3, RotationSystem.rotationCount(0, 3));
+        assertArrayEquals(new int[]{0, 0, -1, 0, 1, 0, -2, 0, 2, 0}, RotationSystem.kicks(0, 3, 0, 1));
+    }
+
+    @Test
+    void clockwiseThenCounterClockwiseRestoresThePieceOnBothBoards() {
+        for (Board board : new Board[]{
+                new SimpleBoard(25, 10, new SeededBrickGenerator(5L)),
+                new BitboardBoard(25, 10, new SeededBrickGenerator(5L))}) {
+            board.createNewBrick();
+            for (int piece = 0; piece < 14; piece++) {
+                for (int i = 0; i < 8; i++) {
+                    board.moveBrickDown();
+                }
+                int before = board.getPieceState();
+                for (int turn = 0; turn < 4; turn++) {
+                    assertTrue(board.rotateRightBrick());
+                }
+                assertEquals(before, board.getPieceState(), "Four clockwise turns in open space are a full circle");
+                assertTrue(board.rotateRightBrick());
+                assertTrue(board.rotateLeftBrick());
+                assertEquals(before, board.getPieceState(), PieceState.toString(board.getPieceState()));
+                // Fresh board for the next brick, so the stack never gets in the way
+                board.newGame();
+            }
+        }
+    }
+
+    @Test
+    void verticalIPieceKicksAwayFromTheWall() {
+        // 7-bag seed whose first brick is the I piece
+        long seed = 0;
+        SimpleBoard board;
+        do {
+            board = new SimpleBoard(25, 10, new SeededBrickGenerator(seed++));
+            board.createNewBrick();
+        } while (PieceState.typeId(board.getPieceState()) != 1);
+
+        for (int i = 0; i < 5; i++) {
+            board.moveBrickDown();
+        }
+        assertTrue(board.rotateLeftBrick(), "I piece should turn vertical in open space");
+        while (board.moveBrickLeft()) {
+            // Push against the left wall
+        }
+        int x = PieceState.x(board.getPieceState());
+        assertTrue(board.rotateLeftBrick(), "Rotating back to horizontal needs a kick off the wall");
+        assertNotEquals(x, PieceState.x(board.getPieceState()), "The kick should have shifted the piece");
+    }
+}
@@ -0,0 +1,94 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RowRingTest {
+
+    @Test
+    void removeRowsMatchesNaiveCompactionFromEitherSide() {
+        Random random = new Random(3);
+        for (int trial = 0; trial < 500; trial++) {
+            RowRing ring = new RowRing(12, 4);
+            List<int[]> expected = new ArrayList<>();
+            // Rotate the ring first so the base is not always 0
+            ring.insertBottomRows(random.nextInt(12));
+            for (int row = 0; row < 12; row++) {
+                for (int col = 0; col < 4; col++) {
+                    ring.set(row, col, row * 10 + col + 1);
+                }
+                expected.add(ring.row(row).clone());
+            }
+
+            int[] cleared = new int[12];
+            int count = 0;
+            for (int row = 0; row < 12; row++) {
+                if (random.nextInt(4) == 0) {
+                    cleared[count++] = row;
+                }
+            }
+            for (int i = count - 1; i >= 0; i--) {
+                expected.remove(cleared[i]);
+            }
+            for (int i = 0; i < count; i++) {
+                expected.add(0, new int[4]);
+            }
+
+            ring.removeRows(cleared, count);
+            int[][] view = ring.orderedView();
+            for (int row = 0; row < 12; row++) {
+                assertArrayEquals(expected.get(row), view[row], "Trial " + trial + " row " + row);
+                assertSame(ring.row(row), view[row], "View must share row arrays with the ring");
+            }
+        }
+    }
+
+    @Test
+    void bottomRowsAreRemovedAndInsertedByMovingTheBase() {
+        RowRing ring = new RowRing(5, 3);
+        for (int row = 0; row < 5; row++) {
+            ring.set(row, 0, row + 1);
+        }
+        int[] oldTop = ring.row(0);
+
+        ring.insertBottomRows(2);
+        assertEquals(3, ring.get(0, 0), "Rows should have moved up by two");
+        assertEquals(5, ring.get(2, 0));
+        assertSame(oldTop, ring.row(3), "The row pushed off the top is recycled at the bottom");
+        assertArrayEquals(new int[3], ring.row(3));
+        assertArrayEquals(new int[3], ring.row(4));
+
+        ring.removeBottomRows(2);
+        assertArrayEquals(new int[3], ring.row(0));
+        assertArrayEquals(new int[3], ring.row(1));
+        assertEquals(3, ring.get(2, 0), "Rows should be back where they were");
+        assertEquals(5, ring.get(4, 0));
+    }
+
+    @Test
+    void restoreOnlyWritesRowsThatChangedSinceTheCapture() {
+        RowRing ring = new RowRing(6, 3);
+        ring.set(5, 0, 1);
+        int[][] before = ring.capture();
+        int[] changed = new int[6];
+
+        ring.set(2, 1, 4);
+        ring.set(4, 2, 4);
+        assertEquals(2, ring.restore(before, changed));
+        assertEquals(2, changed[0]);
+        assertEquals(4, changed[1]);
+        assertArrayEquals(new int[3], ring.row(2));
+        assertEquals(1, ring.get(5, 0));
+
+        assertEquals(0, ring.restore(before, changed), "Nothing changed since the last restore");
+        int[][] again = ring.capture();
+        for (int row = 0; row < 6; row++) {
+            assertSame(before[row], again[row], "Restored rows should be shared with the capture");
+        }
+    }
+}
@@ -1,6 +1,10 @@
 package model;
 
 import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 public class ScoreTest {
@@ -8,14 +12,14 @@ public class ScoreTest {
     @Test
     public void testInitialScoreIsZero() {
         Score score = new Score();
-        assertEquals(0, score.scoreProperty().get());
+        assertEquals(0, score.getValue());
     }
 
     @Test
     public void testAddScore() {
         Score score = new Score();
         score.add(10);
-        assertEquals(10, score.scoreProperty().get());
+        assertEquals(10, score.getValue());
     }
 
     @Test
@@ -23,6 +27,19 @@ public class ScoreTest {
         Score score = new Score();
         score.add(50);
         score.reset();
-        assertEquals(0, score.scoreProperty().get());
+        assertEquals(0, score.getValue());
+    }
+
+    @Test
+    public void testListenerIsNotifiedOfChanges() {
+        Score score = new Score();
+        List<String> changes = new ArrayList<>();
+        score.addListener((oldValue, newValue) -> changes.add(oldValue + "->" + newValue));
+
+        score.add(10);
+        score.add(0);
+        score.reset();
+
+        assertEquals(List.of("0->10", "10->0"), changes, "Only actual changes should be reported");
     }
 }
@@ -2,24 +2,34 @@ package model;
 
 import com.comp2042.logic.bricks.Brick;
 import com.comp2042.logic.bricks.BrickGenerator;
+import com.comp2042.logic.bricks.BrickShape;
+import com.comp2042.logic.bricks.RandomBrickGenerator;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import view.ClearRow;
 
-import java.lang.reflect.Field;
+import java.lang.management.ManagementFactory;
 import java.util.Collections;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 class SimpleBoardTest {
 
-    private SimpleBoard board;
+    private Board board;
+
+    /**
+     * Creates the board under test; subclasses run this suite against other implementations.
+     */
+    Board newBoard(BrickGenerator generator) {
+        return new SimpleBoard(25, 10, generator);
+    }
 
     @BeforeEach
-    void setUp() throws Exception {
-        board = new SimpleBoard(25, 10);
-        injectBrickGenerator(board, new FixedBrickGenerator(new SingleCellBrick()));
+    void setUp() {
+        board = newBoard(new FixedBrickGenerator(new SingleCellBrick()));
         board.createNewBrick();
     }
 
@@ -77,6 +87,8 @@ class SimpleBoardTest {
         }
 
         assertTrue(board.clearRowsPowerUp(3), "Power-up should clear when valid row count provided");
+        // Rows move when cleared, so look at the board as it is now
+        matrix = board.getBoardMatrix();
 
         for (int row = 22; row < 25; row++) {
             for (int col = 0; col < 10; col++) {
@@ -98,10 +110,187 @@ class SimpleBoardTest {
         assertEquals(50, result.getScoreBonus());
     }
 
-    private static void injectBrickGenerator(SimpleBoard board, BrickGenerator generator) throws Exception {
-        Field field = SimpleBoard.class.getDeclaredField("brickGenerator");
-        field.setAccessible(true);
-        field.set(board, generator);
+    @Test
+    void clearRowsCompactsInPlaceAndReportsClearedRows() {
+        int[][] matrix = board.getBoardMatrix();
+        // Two bottom rows missing only column 4, and a marker cell above them
+        for (int col = 0; col < 10; col++) {
+            if (col != 4) {
+                matrix[23][col] = 2;
+                matrix[24][col] = 3;
+            }
+        }
+        matrix[22][0] = 5;
+
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        ClearRow first = board.clearRows();
+        assertEquals(1, first.getLinesRemoved());
+        assertEquals(1L << 24, first.getClearedRowMask());
+        assertSame(matrix, board.getBoardMatrix(), "Clearing should not replace the board matrix");
+        assertEquals(2, matrix[24][0], "Row 23 should have moved down into row 24");
+        assertEquals(0, matrix[24][4]);
+        assertEquals(5, matrix[23][0], "Marker should have moved down with its row");
+
+        board.createNewBrick();
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        ClearRow second = board.clearRows();
+        assertEquals(1, second.getLinesRemoved());
+        assertSame(matrix, board.getBoardMatrix(), "Fetching again refreshes the same ordered view");
+        assertEquals(5, matrix[24][0]);
+        for (int row = 0; row < 24; row++) {
+            for (int col = 0; col < 10; col++) {
+                assertEquals(0, matrix[row][col], "Only the marker row should remain");
+            }
+        }
+
+        board.createNewBrick();
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        assertEquals(0, board.clearRows().getLinesRemoved());
+    }
+
+    @Test
+    void landingRowMatchesSteppedDropAcrossClearsAndPowerUps() {
+        Board realBoard = newBoard(new RandomBrickGenerator());
+        realBoard.createNewBrick();
+        Random random = new Random(7);
+
+        for (int step = 0; step < 3000; step++) {
+            switch (random.nextInt(5)) {
+                case 0 -> realBoard.moveBrickLeft();
+                case 1 -> realBoard.moveBrickRight();
+                case 2 -> realBoard.rotateLeftBrick();
+                case 3 -> {
+                    // Tuck pieces under overhangs now and then so the stepping fallback is exercised
+                    for (int i = random.nextInt(30); i > 0 && realBoard.moveBrickDown(); i--) {
+                        realBoard.moveBrickLeft();
+                    }
+                }
+                default -> {
+                    if (random.nextInt(20) == 0) {
+                        realBoard.setBombPiece(true);
+                    }
+                    realBoard.hardDropBrick();
+                    realBoard.mergeBrickToBackground();
+                    realBoard.clearRows();
+                    if (random.nextInt(25) == 0) {
+                        realBoard.clearRowsPowerUp(1 + random.nextInt(3));
+                    }
+                    if (realBoard.createNewBrick()) {
+                        realBoard.newGame();
+                    }
+                }
+            }
+
+            ViewData view = realBoard.getViewData();
+            int[][] matrix = realBoard.getBoardMatrix();
+            int expected = view.getyPosition();
+            while (!MatrixOperations.intersect(matrix, view.getBrickData(), view.getxPosition(), expected + 1)) {
+                expected++;
+            }
+            assertEquals(expected, view.getLandingRow(), "Landing row diverged at step " + step);
+            assertEquals(expected - view.getyPosition(), realBoard.getHardDropDistance());
+        }
+    }
+
+    @Test
+    void insertGarbagePushesStackUpAndLiftsFallingBrick() {
+        int[][] matrix = board.getBoardMatrix();
+        matrix[24][0] = 3;
+        // Park the falling brick on top of a cell, away from the hole column
+        matrix[24][2] = 4;
+        for (int i = 0; i < 2; i++) {
+            board.moveBrickLeft();
+        }
+        board.hardDropBrick();
+        int yBefore = PieceState.y(board.getPieceState());
+
+        assertFalse(board.insertGarbage(2, 5));
+        matrix = board.getBoardMatrix();
+        assertEquals(3, matrix[22][0], "Stack should move up by two rows");
+        assertEquals(4, matrix[22][2]);
+        for (int row = 23; row < 25; row++) {
+            for (int col = 0; col < 10; col++) {
+                assertEquals(col == 5 ? 0 : Board.GARBAGE_CELL, matrix[row][col]);
+            }
+        }
+        assertEquals(yBefore - 2, PieceState.y(board.getPieceState()), "Brick should be lifted off the new stack");
+        assertEquals(0, board.getHardDropDistance());
+    }
+
+    @Test
+    void queuedGarbageIsAppliedAtLockAndDetectsTopOut() {
+        board.queueGarbage(3, 0);
+        board.queueGarbage(2, 9);
+        assertEquals(5, board.getPendingGarbage());
+        assertEquals(0, board.getBoardMatrix()[24][1], "Queued garbage waits for the next lock");
+
+        board.hardDropBrick();
+        board.mergeBrickToBackground();
+        board.clearRows();
+        assertFalse(board.applyPendingGarbage());
+        assertEquals(0, board.getPendingGarbage());
+        int[][] matrix = board.getBoardMatrix();
+        assertEquals(1, matrix[19][4], "Locked brick should ride up on the garbage");
+        assertEquals(0, matrix[20][0]);
+        assertEquals(0, matrix[24][9]);
+        assertEquals(Board.GARBAGE_CELL, matrix[24][0]);
+
+        assertTrue(board.insertGarbage(20, 1), "Cells pushed past the top end the game");
+        assertThrows(IllegalArgumentException.class, () -> board.queueGarbage(1, 10));
+    }
+
+    @Test
+    void steadyStateMovementDoesNotAllocate() {
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threadBean.isThreadAllocatedMemorySupported(), "Allocation counters not available on this JVM");
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        long threadId = Thread.currentThread().threadId();
+
+        Board realBoard = newBoard(new RandomBrickGenerator());
+        realBoard.createNewBrick();
+        // Warm up so the measured loop runs compiled code
+        for (int i = 0; i < 20_000; i++) {
+            exerciseMovement(realBoard, i);
+        }
+
+        long emptyBefore = threadBean.getThreadAllocatedBytes(threadId);
+        long emptyAfter = threadBean.getThreadAllocatedBytes(threadId);
+        long before = threadBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 10_000; i++) {
+            exerciseMovement(realBoard, i);
+        }
+        long after = threadBean.getThreadAllocatedBytes(threadId);
+
+        long allocated = (after - before) - (emptyAfter - emptyBefore);
+        assertEquals(0, allocated, "Movement, rotation and drop distance should not allocate");
+    }
+
+    @Test
+    void viewDataCarriesThePreviewQueue() {
+        Board queued = newBoard(new RandomBrickGenerator(5));
+        queued.createNewBrick();
+        List<BrickShape> upcoming = queued.getViewData().getNextBrickShapes();
+        assertEquals(5, upcoming.size());
+        assertSame(upcoming.get(0), queued.getViewData().getNextBrickShape());
+
+        queued.hardDropBrick();
+        queued.mergeBrickToBackground();
+        queued.createNewBrick();
+        assertEquals(upcoming.subList(1, 5), queued.getViewData().getNextBrickShapes().subList(0, 4),
+                "The queue should move up by one brick per spawn");
+    }
+
+    private static void exerciseMovement(Board board, int step) {
+        board.moveBrickLeft();
+        board.rotateLeftBrick();
+        board.moveBrickRight();
+        board.getHardDropDistance();
+        if (step % 8 == 0) {
+            board.moveBrickDown();
+        }
     }
 
     private static class FixedBrickGenerator implements BrickGenerator {
@@ -1,5 +1,6 @@
 package model;
 
+import com.comp2042.logic.bricks.BrickShape;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -36,5 +37,18 @@ class ViewDataTest {
         assertEquals(4, viewData.getyPosition());
         assertNull(viewData.getHeldBrickData(), "Held data should be null when not provided");
     }
-}
 
+    @Test
+    void shapeAccessorsShareTheSameImmutableShapes() {
+        BrickShape brick = new BrickShape(new int[][]{{0, 4}, {4, 4}});
+        BrickShape next = new BrickShape(new int[][]{{2}});
+        ViewData viewData = new ViewData(brick, 1, 2, next, null);
+
+        assertSame(brick, viewData.getBrickShape());
+        assertSame(brick, viewData.getBrickShape(), "Repeated reads should not copy");
+        assertSame(next, viewData.getNextBrickShape());
+        assertNull(viewData.getHeldBrickShape());
+        assertArrayEquals(viewData.getBrickData(), viewData.getBrickShape().toMatrix());
+        assertEquals(4, viewData.getBrickShape().getCell(1, 0));
+    }
+}